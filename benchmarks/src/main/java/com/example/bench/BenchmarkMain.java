@@ -0,0 +1,53 @@
+package com.example.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark-Starter
+ * ----------------
+ * Wie der Standard-Starter von JMH, schreibt die Ergebnisse aber ohne
+ * weitere Angaben als JSON nach jmh-result.json, damit Builds
+ * vergleichbar bleiben. Alle JMH-Kommandozeilenoptionen gelten weiter
+ * (z.B. -rff, -p, -f, Benchmark-Filter).
+ *
+ * Aufruf: java -jar target/benchmarks.jar [JMH-Optionen]
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class BenchmarkMain {
+
+    private static final String DEFAULT_RESULT = "jmh-result.json";
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (!cli.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT);
+        }
+        if (cli.getIncludes().isEmpty()) {
+            options.include(BenchmarkMain.class.getPackageName() + "\\..*Benchmark");
+        }
+
+        Runner runner = new Runner(options.build());
+        if (cli.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.example.story.StoryScript;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark: Dialog-Parser
+ * -----------------------
+ * Misst StoryScript.parse auf dem echten Skript und auf synthetischen
+ * Skripten im Megabyte-Bereich.
+ *
+ * Der Stream liegt vollständig im Speicher; gemessen wird nur das Parsen.
+ * Der DialogueManager bleibt außen vor, da loadScript zusätzlich die
+ * Session im Story-Thread neu aufbaut und den Suchindex im Hintergrund
+ * baut (das würde mit dem Parsen um die CPU konkurrieren).
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DialogueLoadBenchmark {
+
+    /** "original" = dialogue.txt, sonst synthetische Größe in MB */
+    @Param({"original", "1", "8"})
+    public String script;
+
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void prepare() throws IOException {
+        content = script.equals("original")
+                ? Scripts.original()
+                : Scripts.synthetic(Long.parseLong(script) * 1024 * 1024);
+    }
+
+    @Benchmark
+    public StoryScript parse() throws IOException {
+        return StoryScript.parse(new ByteArrayInputStream(content));
+    }
+}
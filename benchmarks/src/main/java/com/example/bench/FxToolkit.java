@@ -0,0 +1,82 @@
+package com.example.bench;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+
+/**
+ * JavaFX-Toolkit für Benchmarks
+ * ----------------------------
+ * Startet das Toolkit einmal pro Fork und führt Aufgaben synchron auf dem
+ * JavaFX Application Thread aus (wie im Spiel).
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+final class FxToolkit {
+
+    private static boolean started;
+
+    private FxToolkit() {}
+
+    /** Startet das Toolkit, falls noch nicht geschehen */
+    static synchronized void start() {
+        if (started) return;
+        CountDownLatch ready = new CountDownLatch(1);
+        Platform.setImplicitExit(false);
+        Platform.startup(ready::countDown);
+        await(ready);
+        started = true;
+    }
+
+    /** Führt die Aufgabe auf dem FX-Thread aus und wartet auf das Ende */
+    static void runAndWait(Runnable task) {
+        callAndWait(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Führt die Aufgabe auf dem FX-Thread aus und liefert ihr Ergebnis.
+     * Ausnahmen werden als IllegalStateException weitergereicht.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T callAndWait(Callable<T> task) {
+        if (Platform.isFxApplicationThread()) {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw new IllegalStateException("FX task failed", e);
+            }
+        }
+
+        Object[] result = new Object[1];
+        Throwable[] failure = new Throwable[1];
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                result[0] = task.call();
+            } catch (Throwable t) {
+                failure[0] = t;
+            } finally {
+                done.countDown();
+            }
+        });
+        await(done);
+        if (failure[0] != null) {
+            throw new IllegalStateException("FX task failed", failure[0]);
+        }
+        return (T) result[0];
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the FX thread", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import com.example.App;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+
+/**
+ * Benchmark: FXML-Laden
+ * --------------------
+ * Ladezeit jeder Szenen-FXML inklusive Controller-Erzeugung und
+ * initialize(). Hintergrundbilder werden über den ImageCache asynchron
+ * dekodiert und sind deshalb nicht enthalten (siehe ImageDecodeBenchmark).
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FxmlLoadBenchmark {
+
+    /** Alle FXML-Dateien unter com/example (ohne .fxml Endung) */
+    @Param({"menu", "StoryScene"})
+    public String fxml;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        FxToolkit.start();
+        if (App.class.getResource(fxml + ".fxml") == null) {
+            throw new IllegalStateException(fxml + ".fxml not found on classpath");
+        }
+    }
+
+    @Benchmark
+    public Parent load() {
+        return FxToolkit.callAndWait(() -> new FXMLLoader(App.class.getResource(fxml + ".fxml")).load());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.bench;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import com.example.App;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.scene.image.Image;
+
+/**
+ * Benchmark: Bilddekodierung
+ * -------------------------
+ * Dekodierzeit jedes Hintergrunds aus Images/, einmal in voller
+ * Auflösung und einmal wie im ImageCache direkt in 1920x1080.
+ *
+ * Dekodiert wird synchron ohne Cache, damit jede Messung echte Arbeit ist.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImageDecodeBenchmark {
+
+    @Param({
+        "Epilogue-Background.jpg",
+        "SecondSzene-Hintergrund.png",
+        "ThirdScene-Hintergrund.png",
+        "FourthScene-Hintergund.png",
+        "FifthScene-Hintergrund.png",
+        "SixthScene.png",
+        "end.png",
+        "Zhuāng Zhōu Liè Guó Zh - Menu Backgroundd.jpg"
+    })
+    public String background;
+
+    /** "full" = Originalgröße, "screen" = 1920x1080 wie im ImageCache */
+    @Param({"full", "screen"})
+    public String size;
+
+    private String url;
+    private int width;
+    private int height;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        FxToolkit.start();
+        URL resource = App.class.getResource("Images/" + background);
+        if (resource == null) {
+            throw new IllegalStateException("Images/" + background + " not found on classpath");
+        }
+        url = resource.toExternalForm();
+        boolean screen = size.equals("screen");
+        width = screen ? 1920 : 0;
+        height = screen ? 1080 : 0;
+    }
+
+    @Benchmark
+    public Image decode() {
+        Image image = new Image(url, width, height, true, true, false);
+        if (image.isError()) {
+            throw new IllegalStateException("Decode failed for " + background, image.getException());
+        }
+        return image;
+    }
+}
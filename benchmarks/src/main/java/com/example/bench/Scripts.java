@@ -0,0 +1,87 @@
+package com.example.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.App;
+
+/**
+ * Dialog-Skripte für Benchmarks
+ * ----------------------------
+ * Liefert das echte dialogue.txt sowie synthetische Skripte beliebiger
+ * Größe im selben Format. Synthetische Zeilen stammen aus dem echten
+ * Skript, damit Zeilenlängen und Umlaute realistisch bleiben.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+final class Scripts {
+
+    /** Zeilen pro synthetischer Szene (ähnlich den echten Szenen) */
+    private static final int LINES_PER_SCENE = 40;
+
+    private Scripts() {}
+
+    /** Originales dialogue.txt aus dem Spiel-Jar */
+    static byte[] original() throws IOException {
+        try (InputStream in = App.class.getResourceAsStream("/com/example/dialogue.txt")) {
+            if (in == null) throw new IOException("dialogue.txt not found on classpath");
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Synthetisches Skript
+     * -------------------
+     * @param bytes Ungefähre Zielgröße in Bytes
+     * @return Skript mit [SceneNNNNN]-Blöcken bis zur Zielgröße
+     */
+    static byte[] synthetic(long bytes) throws IOException {
+        List<String> source = dialogueLines();
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(Integer.MAX_VALUE - 8, bytes + 4096));
+        StringBuilder block = new StringBuilder(8192);
+        int next = 0;
+        for (int scene = 0; out.size() < bytes; scene++) {
+            block.setLength(0);
+            block.append('[').append(String.format("Scene%05d", scene)).append("]\n");
+            for (int i = 0; i < LINES_PER_SCENE; i++) {
+                block.append(source.get(next++ % source.size())).append('\n');
+            }
+            block.append("[End]\n\n");
+            out.write(block.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Einzelne Szene mit fester Zeilenzahl
+     * ----------------------------------
+     * @param scene Szenenname
+     * @param lines Anzahl Zeilen
+     */
+    static byte[] scene(String scene, int lines) throws IOException {
+        List<String> source = dialogueLines();
+        StringBuilder script = new StringBuilder(lines * 120);
+        script.append('[').append(scene).append("]\n");
+        for (int i = 0; i < lines; i++) {
+            script.append(source.get(i % source.size())).append('\n');
+        }
+        script.append("[End]\n");
+        return script.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Alle Textzeilen des Originals ohne Marker, Leerzeilen und Kommentare */
+    private static List<String> dialogueLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : new String(original(), StandardCharsets.UTF_8).split("\\R")) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("//") || line.startsWith("[")) continue;
+            lines.add(line);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.example.dialogue.LabelOutput;
+import com.example.dialogue.TypewriterReveal;
+import com.example.story.DialogueLine;
+import com.example.story.StoryOutput;
+import com.example.story.StoryScript;
+import com.example.story.StorySession;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+
+/**
+ * Benchmark: Dialog-Progression
+ * ----------------------------
+ * advance: Durchsatz von StorySession.advance, also des Schritts, den der
+ * DialogueManager pro showNextLine auf dem Story-Thread (StoryActor)
+ * ausführt. Die Ausgabe merkt sich nur die letzte Zeile.
+ *
+ * showNextLine: Derselbe Schritt mit der Ausgabe des Spiels auf dem
+ * FX-Thread, also LabelOutput mit Namensschild und TypewriterReveal
+ * (Text setzen, Layout, Vermessen, Clip). Label und Schild hängen in einer
+ * Szene ohne Fenster, damit CSS und Skin wie im Spiel greifen; gerendert
+ * wird nicht. Der Sprung vom Story-Thread per runLater ist nicht enthalten.
+ *
+ * Pro Aufruf wird eine Szene mit LINES Zeilen vollständig durchlaufen.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShowNextLineBenchmark {
+
+    static final int LINES = 1000;
+    private static final String SCENE = "BenchScene";
+
+    private StorySession session;
+    private DialogueLine last;
+
+    @Setup(Level.Trial)
+    public void prepare() throws IOException {
+        StoryScript script = StoryScript.parse(new ByteArrayInputStream(Scripts.scene(SCENE, LINES)));
+        session = new StorySession(script, null, new StoryOutput() {
+            @Override
+            public void showLine(String scene, int index, DialogueLine line) {
+                last = line;
+            }
+
+            @Override
+            public void sceneFinished(String scene, String next) {}
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public DialogueLine advance() {
+        session.enter(SCENE);
+        for (int i = 0; i < LINES; i++) {
+            session.advance();
+        }
+        return last;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public String showNextLine(Fx fx) {
+        FxToolkit.runAndWait(() -> {
+            fx.session.enter(SCENE);
+            for (int i = 0; i < LINES; i++) {
+                fx.session.advance();
+            }
+        });
+        return fx.label.getText();
+    }
+
+    /** Session mit LabelOutput auf dem FX-Thread (nur für showNextLine) */
+    @State(Scope.Benchmark)
+    public static class Fx {
+
+        private StorySession session;
+        private Label label;
+
+        @Setup(Level.Trial)
+        public void prepare() throws IOException {
+            FxToolkit.start();
+            StoryScript script = StoryScript.parse(new ByteArrayInputStream(Scripts.scene(SCENE, LINES)));
+            TypewriterReveal typewriter = new TypewriterReveal();
+            LabelOutput output = new LabelOutput(typewriter);
+            session = new StorySession(script, null, output);
+            FxToolkit.runAndWait(() -> {
+                label = new Label();
+                Label speakerLabel = new Label();
+                new Scene(new StackPane(label, speakerLabel), 1920, 1080);
+                output.setLabel(label);
+                output.setSpeakerLabel(speakerLabel);
+            });
+        }
+    }
+}
@@ -2,21 +2,38 @@ package com.example;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.example.dialogue.DialogueManager;
+import com.example.dialogue.DialoguePacks;
+import com.example.log.Category;
+import com.example.log.DebugCollector;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.metrics.Counter;
+import com.example.metrics.LatencyHistogram;
+import com.example.metrics.Metrics;
+import com.example.story.StoryGraph;
+import com.example.story.StoryScript;
 
 import javafx.application.Application;
 import javafx.application.Platform;
-import javafx.event.EventHandler;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
-import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCombination;
-import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage; 
 
 /**
@@ -26,10 +43,12 @@ import javafx.stage.Stage;
  * der Drei Königreiche Chinas.
  * 
  * Kernfunktionen:
- * - Multi-Szenen Management mit flüssigen Übergängen
+ * - Multi-Szenen Management mit flüssigen Übergängen (TransitionCompositor)
  * - Fortgeschrittenes Dialog-System mit Text-Progression
  * - Persistenter Fullscreen-Modus
- * - Umfangreiches Debug-System
+ * - Paralleler Start: Fenster sofort sichtbar, Skript und Menü im Hintergrund
+ * - Umfangreiches Debug-System (DebugCollector, Log)
+ * - Laufzeit-Metriken (Metrics: JMX, optional Prometheus-Endpunkt)
  * 
  * Technische Features:
  * - JavaFX UI-Framework
@@ -42,122 +61,137 @@ import javafx.stage.Stage;
  */
 public class App extends Application {
 
+    private static final Logger LOG = Log.get(Category.APP);
+
+    /**
+     * Entwicklungsmodus
+     * ----------------
+     * Ressourcen-Verzeichnis im Quellbaum (-Ddev.resources, z.B.
+     * src/main/resources/com/example). Ist es gesetzt, werden Skript, FXML
+     * und CSS von dort gelesen und bei Änderungen neu geladen.
+     */
+    private static final Path DEV_RESOURCES = System.getProperty("dev.resources") == null
+            ? null : Path.of(System.getProperty("dev.resources")).toAbsolutePath();
+
     /** 
      * Zentrale UI-Komponenten
      * ----------------------
-     * scene: Aktuelle aktive Szene, verwaltet UI-Hierarchie
-     * primaryStage: Hauptfenster der Anwendung, Container für Szenen
+     * scene: Einzige, dauerhafte Szene; Wurzel ist der VirtualCanvas um den host des Compositors
+     * compositor: Tauscht und überblendet den Inhalt der Szene
+     * canvas: Skaliert den Inhalt von 1920x1080 auf das Fenster
+     * primaryStage: Hauptfenster der Anwendung
      * dialogueManager: Singleton für zentrales Dialog-Management
-     * dialogueLabel: UI-Element zur Textanzeige in Spielszenen
+     * dialoguePacks: Sprachpakete (im Entwicklungsmodus Text vor kompiliert)
+     * dialogueRoot: Inhalt, dessen Labels der DialogueManager gerade anzeigt
+     * storyGraph: Szenenabfolge und FXML-Zuordnung aus story.graph
+     * storyRoot/storyPresenter: Dauerhafter Graph für alle Story-Szenen
+     * storyStale: Story-FXML wurde geändert (Entwicklungsmodus), neu aufbauen
+     * devReloader: Hot-Reload im Entwicklungsmodus (sonst null)
      */
     private static Scene scene;
+    private static TransitionCompositor compositor;
+    private static VirtualCanvas canvas;
     private static Stage primaryStage;
     private static final DialogueManager dialogueManager = DialogueManager.getInstance();
-    private static Label dialogueLabel;
+    private static final DialoguePacks dialoguePacks = new DialoguePacks(App::resource, DEV_RESOURCES != null);
+    private static Parent dialogueRoot;
+    private static volatile StoryGraph storyGraph;
+    private static Parent storyRoot;
+    private static StorySceneController storyPresenter;
+    private static boolean storyStale;
+    private static DevReloader devReloader;
 
-    /** 
-     * Debug-System
-     * -----------
-     * Sammelt und organisiert Debug-Nachrichten für strukturierte Ausgabe.
-     * Nachrichten werden nach Priorität sortiert und in Blöcken ausgegeben.
-     */
-    private static final ArrayList<String> DEBUG_MESSAGES = new ArrayList<>();
+    /** Worker-Threads der Startpipeline (Story-Graph + Menü, Dialog, Reserve) */
+    private static final int STARTUP_THREADS = 3;
+
+    /** Szenenwechsel von setRoot() bis zur Freigabe der Eingabe */
+    private static final LatencyHistogram TRANSITION = Metrics.histogram("scene.transition",
+            "Scene switch from App.setRoot until input is released");
+    private static final Counter TRANSITION_FAILURES = Metrics.counter("scene.transition.failures",
+            "Scene switches aborted by an error");
+    private static final Counter TRANSITION_SUPERSEDED = Metrics.counter("scene.transition.superseded",
+            "Scene switches replaced by a newer request while loading");
 
     /**
-     * Debug-Nachricht Prioritäts-Sortierung
-     * -----------------------------------
-     * Implementiert 3-stufige Priorisierung für Debug-Ausgaben:
-     * 1. ERROR-Nachrichten (höchste Priorität)
-     *    - Kritische Fehler und Exceptions
-     *    - Sofortige Aufmerksamkeit erforderlich
-     * 
-     * 2. Debug-Header (mittlere Priorität)
-     *    - Markiert durch === Symbole
-     *    - Strukturiert Debug-Ausgaben in Blöcke
-     * 
-     * 3. Standard-Nachrichten (normale Priorität)
-     *    - Nach Länge sortiert für bessere Lesbarkeit
-     *    - Längere Nachrichten erscheinen zuerst
+     * Zustand eines Szenenwechsels
+     * ---------------------------
+     * IDLE → LOADING → TRANSITIONING → ACTIVE (→ LOADING beim nächsten Wechsel)
+     *
+     * - IDLE: Noch kein Wechsel (Platzhalter oder Menü vom Start)
+     * - LOADING: Wartet auf Startpipeline, Graph und Hintergrund; eine neuere
+     *   Anfrage ersetzt den Ladevorgang
+     * - TRANSITIONING: Der Compositor animiert; eine neuere Anfrage wird
+     *   gemerkt (die letzte gewinnt) und startet nach ACTIVE
+     * - ACTIVE: Inhalt und Dialog sind genau einmal initialisiert,
+     *   Eingabe ist frei
      */
-    private static final Comparator<String> DEBUG_MESSAGE_COMPARATOR = new Comparator<String>() {
-        @Override
-        public int compare(String msg1, String msg2) {
-            // Priorisiere Fehlermeldungen
-            if (msg1.contains("ERROR") && !msg2.contains("ERROR")) return -1;
-            if (!msg1.contains("ERROR") && msg2.contains("ERROR")) return 1;
-            // Dann Debug-Header
-            if (msg1.contains("===") && !msg2.contains("===")) return -1;
-            if (!msg1.contains("===") && msg2.contains("===")) return 1;
-            // Zuletzt nach Länge
-            return Integer.compare(msg2.length(), msg1.length());
-        }
-    };
+    private enum SwitchPhase { IDLE, LOADING, TRANSITIONING, ACTIVE }
 
     /**
-     * Debug-Ausgabe Prozessor
-     * ----------------------
-     * Verarbeitet gesammelte Debug-Nachrichten:    
-     * private static final DialogueManager dialogueManager = DialogueManager.getInstance();  
-     * // Dialogue system singleton    
-     * private static final DialogueManager dialogueManager = DialogueManager.getInstance();  
-     * // Dialogue system singleton
-     * 1. Sortiert nach definierter Priorität
-     * 2. Formatiert mit Kontext-Header
-     * 3. Gibt als Block aus
-     * 4. Bereinigt Buffer nach Ausgabe
-     * 
-     * @param context Identifiziert den Debug-Block (z.B. "Scene Transition")
+     * Szenenwechsel (nur FX-Thread)
+     * ----------------------------
+     * switchPhase: Aktueller Zustand
+     * switchGeneration: Nummer der gültigen Anfrage; Rückrufe älterer
+     *                   Anfragen erkennen daran, dass sie ersetzt wurden
+     * queuedScene: Während TRANSITIONING angefragte Szene oder null
+     * transitionStart: Beginn des Wechsels für die Metrik
      */
-    private static void printDebugMessages(String context) {
-        DEBUG_MESSAGES.sort(DEBUG_MESSAGE_COMPARATOR);
-        System.out.println("\n=== Debug Output: " + context + " ===");
-        DEBUG_MESSAGES.forEach(System.out::println);
-        System.out.println("====================\n");
-        DEBUG_MESSAGES.clear();
-    }
+    private static SwitchPhase switchPhase = SwitchPhase.IDLE;
+    private static long switchGeneration;
+    private static String queuedScene;
+    private static long transitionStart;
+
+    /** Fertig, sobald DialogueManager Graph und Skript hat; bis dahin warten Szenenwechsel */
+    private static CompletableFuture<Void> startupReady = CompletableFuture.completedFuture(null);
 
     /**
      * Anwendungsstart und Initialisierung
      * ---------------------------------
-     * Mehrstufiger Startprozess:
-     * 1. Dialog-System
-     *    - Lädt Dialogtexte aus externer Datei
-     *    - Initialisiert DialogueManager
-     * 
-     * 2. UI-Setup
-     *    - Lädt Hauptmenü-FXML
-     *    - Erstellt erste Szene
-     *    - Lädt CSS-Styling
-     * 
-     * 3. Fenster-Konfiguration
-     *    - Setzt Titel und Größe
-     *    - Aktiviert Vollbild
-     *    - Konfiguriert Vollbild-Verhalten
-     * 
+     * Startpipeline, die das Fenster sofort zeigt und den Rest parallel lädt:
+     * 1. Fenster
+     *    - Legt die einzige Szene an (Compositor in virtueller Auflösung,
+     *      Stylesheet, Eingabe, Renderskalierung)
+     *    - Zeigt einen leichten Platzhalter (schwarz, "Laden...")
+     *    - Setzt Titel, Größe und Vollbild-Verhalten
+     *
+     * 2. Parallel auf Worker-Threads (STARTUP_THREADS)
+     *    - story.graph, danach menu.fxml samt Controller und Vorladen
+     *      der ersten Story-Szene (Hintergrund, StoryScene.fxml)
+     *    - Dialog: Sprachpaket der eingestellten Sprache (DialoguePacks),
+     *      kompiliert (dialogue.bin) oder als Text (dialogue.txt),
+     *      im Entwicklungsmodus aus dem Quellbaum mit Hot-Reload
+     *
+     * 3. Auf dem FX-Thread, sobald die jeweiligen Abhängigkeiten fertig sind
+     *    - Menü ersetzt den Platzhalter (braucht Story-Graph und menu.fxml)
+     *    - DialogueManager übernimmt Graph und Skript; erst danach sind
+     *      Szenenwechsel frei (siehe startupReady)
+     *
+     * Am Ende wird die Dauer jeder Phase geloggt (StartupTimeline).
+     *
      * @param stage JavaFX Hauptfenster
-     * @throws Exception Bei Initialisierungsfehlern
      */
     @Override
-    public void start(Stage stage) throws Exception {
+    public void start(Stage stage) {
         primaryStage = stage;
+        StartupTimeline timeline = new StartupTimeline();
+        Metrics.startExport();
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService startup = Executors.newFixedThreadPool(STARTUP_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
 
-        try {
-            // Load dialogue first
-            try (InputStream dialogueStream = getClass().getResourceAsStream("/com/example/dialogue.txt")) {
-                if (dialogueStream == null) {
-                    System.out.println("FEHLER: dialogue.txt nicht gefunden!");
-                    return;
-                }
-                dialogueManager.loadDialogueFromStream(dialogueStream);
-                System.out.println("Dialog erfolgreich geladen!");
-            }
-
-            // Load menu scene
-            Parent menuRoot = loadFXML("menu");
-            scene = new Scene(menuRoot);
-            scene.getStylesheets().add(getClass().getResource("menu.css").toExternalForm());
-            
-            // Configure stage
+        // 1. Fenster sofort zeigen
+        timeline.time("stage", () -> {
+            compositor = new TransitionCompositor();
+            compositor.setContent(placeholder());
+            canvas = new VirtualCanvas(compositor.getHost());
+            scene = new Scene(canvas.getRoot(), Color.BLACK);
+            canvas.attach(primaryStage);
+            Metrics.monitorPulses(scene);
+            scene.getStylesheets().add(resource("menu.css").toExternalForm());
+            InputDispatcher.getInstance().install(scene);
             primaryStage.setScene(scene);
             primaryStage.setTitle("Dating Sim");
             primaryStage.setMaximized(true);
@@ -165,146 +199,430 @@ public class App extends Application {
             primaryStage.setFullScreenExitHint("");
             primaryStage.setFullScreen(true);
             primaryStage.show();
+            return null;
+        });
+        timeline.markNextFrame("first frame");
 
-        } catch (IOException e) {
-            System.out.println("Fehler beim Start: " + e.getMessage());
+        // 2. Parallel laden
+        CompletableFuture<StoryGraph> graph = timeline.async("story.graph", App::readStoryGraph, startup);
+        Locale configured = DialoguePacks.configuredLocale();
+        Locale locale = dialoguePacks.isAvailable(configured) ? configured : DialoguePacks.DEFAULT_LOCALE;
+        CompletableFuture<StoryScript> script = timeline.async("dialogue", () -> readScript(locale), startup);
+        CompletableFuture<Parent> menu = graph.thenCompose(loaded -> {
+            // Erste Story-Szene parallel zum Menü vorladen; der MenuController
+            // liest den Graphen ebenfalls (sein prefetch ist dann ein No-op)
+            storyGraph = loaded;
+            for (String next : loaded.successors("menu")) {
+                prefetch(next);
+            }
+            return timeline.async("menu.fxml", () -> SceneLoader.loadFXML("menu"), startup);
+        });
+
+        // 3. Ergebnisse auf dem FX-Thread übernehmen
+        menu.thenAcceptAsync(root -> {
+            SceneLifecycleManager.getInstance().enter(root);
+            compositor.setContent(root);
+            timeline.markNextFrame("menu shown");
+        }, Platform::runLater);
+
+        startupReady = graph.thenAcceptBothAsync(script, (loadedGraph, loadedScript) -> {
+            timeline.time("dialogue setup", () -> {
+                dialogueManager.setStoryGraph(loadedGraph);
+                dialogueManager.loadScript(loadedScript);
+                dialogueManager.setDialoguePacks(dialoguePacks, locale);
+                if (devReloader != null) devReloader.start();
+                return null;
+            });
+        }, Platform::runLater);
+
+        CompletableFuture.allOf(menu, startupReady).whenCompleteAsync((ignored, error) -> {
+            startup.shutdown();
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                LOG.error("Fehler beim Start", cause);
+                DebugCollector.error("startup", "Startup failed: ", cause);
+                DebugCollector.flush("Startup Error");
+            }
+            // Im nächsten Frame, damit "menu shown" schon in der Aufstellung steht
+            timeline.reportOnNextFrame(LOG);
+        }, Platform::runLater);
+    }
+
+    /** Beendet den Metrik-Endpunkt, damit die JVM nach dem Schließen endet */
+    @Override
+    public void stop() {
+        Metrics.stopExport();
+    }
+
+    /** Platzhalter bis das Menü geladen ist: kein FXML, keine Bilder */
+    private static Parent placeholder() {
+        Label loading = new Label("Laden...");
+        loading.setStyle("-fx-text-fill: #888888; -fx-font-size: 18px;");
+        StackPane root = new StackPane(loading);
+        root.setStyle("-fx-background-color: black;");
+        return root;
+    }
+
+    /** Lädt die Szenenabfolge (Worker-Thread) */
+    private static StoryGraph readStoryGraph() throws IOException {
+        try (InputStream graphStream = App.class.getResourceAsStream("/com/example/story.graph")) {
+            if (graphStream == null) {
+                throw new IOException("story.graph nicht gefunden!");
+            }
+            return StoryGraph.load(graphStream);
         }
     }
+
+    /**
+     * Lädt das Skript (Worker-Thread)
+     * ------------------------------
+     * Quellbaum im Entwicklungsmodus, sonst das Sprachpaket (kompiliert
+     * bevorzugt, sonst Text-Skript).
+     *
+     * @param locale Sprache des Pakets
+     */
+    private static StoryScript readScript(Locale locale) throws IOException {
+        if (DEV_RESOURCES != null) {
+            devReloader = new DevReloader(DEV_RESOURCES, dialogueManager);
+            return devReloader.loadInitial(locale);
+        }
+
+        StoryScript script = dialoguePacks.open(locale);
+        LOG.info("Dialog erfolgreich geladen ({})", locale);
+        return script;
+    }
     
     /**
      * Führt einen Szenenwechsel durch.
-     * Implementiert einen atomaren Übergang mit Vollbild-Erhaltung:
-     * 1. Lädt neue Szene im Hintergrund
-     * 2. Speichert Vollbild-Status
-     * 3. Führt Szenenwechsel in einem einzelnen UI-Update durch
-     * 4. Stellt Vollbild-Modus wieder her
-     * 5. Initialisiert Dialog-System wenn nötig
+     * Alle Szenen teilen sich eine Scene; der TransitionCompositor tauscht
+     * nur deren Inhalt (kein stage.setScene(), Vollbild bleibt unberührt):
+     * 1. LOADING: Wartet ggf. auf das Ende der Startpipeline; Story-Szenen
+     *    tauschen nur Hintergrund, Dialog und Zurück-Ziel im dauerhaften
+     *    Presenter, andere Szenen übernehmen den vorgeladenen Graphen aus
+     *    dem SceneLoader; danach wird auf den Hintergrund gewartet, damit
+     *    der Schnappschuss der neuen Szene ihn schon enthält
+     * 2. TRANSITIONING: Überblendet die Schnappschüsse (TransitionEffect)
+     * 3. ACTIVE: Gibt den verlassenen Graphen über den SceneLifecycleManager
+     *    frei und initialisiert den Dialog genau einmal
+     *
+     * Ist alles bereit (Startpipeline fertig, Hintergrund im Cache), läuft
+     * der Wechsel ohne Umweg über Platform.runLater im selben Aufruf an.
+     * Eine neue Anfrage während LOADING ersetzt die alte (deren Rückrufe
+     * verfallen); während TRANSITIONING wird sie nach dem Abschluss
+     * ausgeführt. Der InputDispatcher sperrt die Eingabe bis ACTIVE, die
+     * Leertaste überspringt die Animation.
      *
-     * @param fxml Name der zu ladenden FXML-Datei (ohne .fxml Endung)
+     * @param sceneId Id der Zielszene aus story.graph (bzw. FXML-Name ohne .fxml)
      * @throws IOException Bei Problemen beim Laden der FXML-Datei
      */
-    public static void setRoot(String fxml) throws IOException {
-        try {
-            // Lade neue Szene
-            Parent root = loadFXML(fxml);
-            Scene newScene = new Scene(root);
-            newScene.getStylesheets().add(App.class.getResource("menu.css").toExternalForm());
-
-            // Speichere Vollbild-Status
-            boolean wasFullScreen = primaryStage.isFullScreen();
-            primaryStage.setFullScreenExitKeyCombination(KeyCombination.NO_MATCH);
-            primaryStage.setFullScreenExitHint("");
+    public static void setRoot(String sceneId) throws IOException {
+        switch (switchPhase) {
+            case TRANSITIONING -> {
+                LOG.debug("Transition to {} queued until the running transition is done", sceneId);
+                queuedScene = sceneId;
+                return;
+            }
+            case LOADING -> {
+                LOG.debug("Transition to {} supersedes a pending load", sceneId);
+                TRANSITION_SUPERSEDED.increment();
+            }
+            case IDLE, ACTIVE -> {
+                InputDispatcher.getInstance().beginTransition();
+                transitionStart = System.nanoTime();
+            }
+        }
+        switchPhase = SwitchPhase.LOADING;
+        long generation = ++switchGeneration;
 
-            // Führe Transition durch
-            Platform.runLater(() -> {
+        if (!startupReady.isDone()) {
+            // Menü ist schon sichtbar, Skript noch nicht: Wechsel nachholen
+            LOG.debug("Transition to {} deferred until startup is complete", sceneId);
+            startupReady.thenRunAsync(() -> {
+                if (generation != switchGeneration) return;
                 try {
-                    Scene oldScene = scene;
-                    scene = newScene;
-
-                    SceneTransition.fadeTransition(primaryStage, oldScene, newScene, () -> {
-                        // Nach der Transition
-                        if (wasFullScreen) {
-                            primaryStage.setFullScreen(true);
-                        }
-                        
-                        // Initialisiere Dialog für Spielszenen
-                        if (fxml.equals("FirstScene") || fxml.equals("SecondScene") || 
-                            fxml.equals("ThirdScene") || fxml.equals("FourthScene") || 
-                            fxml.equals("FifthScene") || fxml.equals("SixthScene") || fxml.equals("SeventhScene")) {
-                            initializeSceneDialog(fxml);
-                        }
-                    });
-
-                } catch (Exception e) {
-                    DEBUG_MESSAGES.add("ERROR during scene transition: " + e.getMessage());
-                    printDebugMessages("Scene Transition Error");
+                    load(sceneId, generation);
+                } catch (IOException e) {
+                    LOG.error("Deferred transition to " + sceneId + " failed", e);
                 }
-            });
+            }, Platform::runLater);
+            return;
+        }
+        load(sceneId, generation);
+    }
 
+    /**
+     * LOADING
+     * ------
+     * Nimmt den Graphen und wartet auf den Hintergrund (meist schon
+     * vorgeladen). Ist er fertig, beginnt die Transition sofort.
+     */
+    private static void load(String sceneId, long generation) throws IOException {
+        StoryGraph.Node node = storyGraph.node(sceneId);
+        boolean story = node != null && node.story();
+        String fxml = storyGraph.fxmlOf(sceneId);
+        Parent next;
+        try {
+            // Story-Szenen teilen sich einen Graphen, alles andere kommt aus dem SceneLoader
+            next = story ? storyRoot(fxml) : SceneLoader.getInstance().take(fxml);
         } catch (IOException e) {
-            DEBUG_MESSAGES.add("ERROR loading FXML: " + e.getMessage());
-            printDebugMessages("FXML Load Error");
+            finishTransition(false);
+            LOG.error("FXML load of " + fxml + " failed", e);
+            DebugCollector.error(fxml, "FXML load failed: ", e);
+            DebugCollector.flush("FXML Load Error");
             throw e;
         }
+
+        // Fehler beim Hintergrund zeigen nur kein Bild
+        CompletableFuture<?> background = story && node.background() != null
+                ? ImageCache.getInstance().request(node.background()).exceptionally(error -> null)
+                : CompletableFuture.completedFuture(null);
+        if (background.isDone()) {
+            transition(sceneId, node, next);
+            return;
+        }
+        background.thenRunAsync(() -> {
+            if (generation != switchGeneration) {
+                // Ersetzt: das Bild bleibt im ImageCache, der Graph wurde nie eingehängt
+                LOG.debug("Load of {} superseded", sceneId);
+                return;
+            }
+            transition(sceneId, node, next);
+        }, Platform::runLater);
     }
 
     /**
-     * Initialisiert das Dialog-System für eine neue Szene.
-     * Führt folgende Schritte aus:
-     * 1. Sucht das Dialog-Label in der Szene
-     * 2. Konfiguriert DialogueManager für die neue Szene
-     * 3. Richtet Event-Handler für Tastatureingaben ein
-     * 4. Aktiviert Debug-Logging für Dialog-System
+     * TRANSITIONING
+     * ------------
+     * Startet die Animation; ab hier wird die Anfrage nicht mehr ersetzt.
+     */
+    private static void transition(String sceneId, StoryGraph.Node node, Parent next) {
+        switchPhase = SwitchPhase.TRANSITIONING;
+        boolean story = node != null && node.story();
+        try {
+            Parent current = compositor.getContent();
+            if (next == current) {
+                // Gleicher Graph: nur Eigenschaften tauschen
+                compositor.transition(next, () -> storyPresenter.show(node), () -> activate(sceneId, story, null));
+                return;
+            }
+
+            SceneLifecycleManager.getInstance().enter(next);
+            compositor.transition(next, story ? () -> storyPresenter.show(node) : null,
+                    () -> activate(sceneId, story, current));
+        } catch (Exception e) {
+            finishTransition(false);
+            LOG.error("Scene transition to " + sceneId + " failed", e);
+            DebugCollector.error(sceneId, "Scene transition failed: ", e);
+            DebugCollector.flush("Scene Transition Error");
+        }
+    }
+
+    /**
+     * ACTIVE
+     * -----
+     * Nach der Animation (auf dem FX-Thread, kein weiterer Umweg):
+     * alten Graphen freigeben, Dialog initialisieren, Eingabe freigeben
+     * und eine gemerkte Anfrage starten.
      *
-     * @param fxml Name der Szene für die Dialog initialisiert wird
+     * @param left Verlassener Graph oder null, wenn derselbe Graph bleibt
      */
-    private static void initializeSceneDialog(String fxml) {
-        DEBUG_MESSAGES.add("Initializing dialogue for " + fxml);
-        
-        Platform.runLater(() -> {
-            dialogueLabel = (Label) scene.lookup("#dialogueLabel");
-            DEBUG_MESSAGES.add("Dialog label lookup: " + (dialogueLabel != null ? "found" : "not found"));
-            
-            if (dialogueLabel != null) {
-                dialogueManager.setCurrentScene(fxml);
-                DEBUG_MESSAGES.add("Current scene set in DialogueManager");
-                
-                dialogueManager.initializeDialog(dialogueLabel);
-                DEBUG_MESSAGES.add("Dialog initialized for " + fxml);
-                
-                KeyEventHandler spaceHandler = new KeyEventHandler(scene, dialogueManager);
-                scene.addEventFilter(KeyEvent.KEY_PRESSED, spaceHandler);
-                DEBUG_MESSAGES.add("Space key handler added");
-                
-                printDebugMessages("Dialog Setup");
-            } else {
-                DEBUG_MESSAGES.add("ERROR: Could not find dialogue label in " + fxml);
-                printDebugMessages("Dialog Setup Error");
+    private static void activate(String sceneId, boolean story, Parent left) {
+        if (left != null) {
+            // Der Story-Graph bleibt erhalten, alles andere wird verworfen
+            SceneLifecycleManager.getInstance().exit(left, left != storyRoot);
+            if (left == dialogueRoot) dialogueRoot = null;
+        }
+        if (story) {
+            initializeSceneDialog(sceneId);
+        }
+        finishTransition(true);
+    }
+    /**
+     * Dauerhafter Story-Graph
+     * ----------------------
+     * Baut den gemeinsamen Story-Graphen beim ersten Aufruf auf und
+     * liefert danach immer denselben Wurzelknoten.
+     */
+    private static Parent storyRoot(String fxml) throws IOException {
+        if (storyRoot == null || storyStale) {
+            storyStale = false;
+            storyRoot = SceneLoader.getInstance().take(fxml);
+            storyPresenter = SceneLoader.controllerOf(storyRoot);
+        }
+        return storyRoot;
+    }
+
+    /**
+     * Übergang überspringen
+     * --------------------
+     * Vom InputDispatcher während eines Szenenwechsels aufgerufen.
+     *
+     * @return false, wenn gerade keine Animation läuft
+     */
+    public static boolean skipTransition() {
+        return compositor != null && compositor.skip();
+    }
+
+    /** true, solange der Story-Graph angezeigt wird */
+    public static boolean isStoryShown() {
+        return storyRoot != null && compositor.getContent() == storyRoot;
+    }
+
+    /**
+     * Ressource auflösen
+     * -----------------
+     * Im Entwicklungsmodus aus dem Quellbaum (damit Änderungen ohne Build
+     * sichtbar werden), sonst aus dem Classpath neben App.
+     *
+     * @param name Name relativ zu com/example (z.B. "menu.css")
+     * @return URL der Ressource oder null
+     */
+    public static URL resource(String name) {
+        if (DEV_RESOURCES != null) {
+            Path file = DEV_RESOURCES.resolve(name);
+            if (Files.isRegularFile(file)) {
+                try {
+                    return file.toUri().toURL();
+                } catch (MalformedURLException e) {
+                    LOG.warn("Invalid dev resource {}: {}", file, e);
+                }
             }
-        });
+        }
+        return App.class.getResource(name);
     }
-    
+
+    /**
+     * FXML verwerfen (Entwicklungsmodus)
+     * ---------------------------------
+     * Vorgeladene Graphen dieser FXML werden verworfen. Ist es die
+     * Story-FXML, wird der dauerhafte Presenter beim nächsten
+     * Szenenwechsel neu aufgebaut; der aktive Inhalt bleibt bis dahin.
+     *
+     * @param fxml Name der FXML-Datei (ohne .fxml Endung)
+     */
+    static void invalidateFxml(String fxml) {
+        SceneLoader.getInstance().invalidate(fxml);
+        for (StoryGraph.Node node : storyGraph.nodes()) {
+            if (node.story() && fxml.equals(node.fxml())) {
+                storyStale = true;
+                return;
+            }
+        }
+    }
+
     /**
-     * Event-Handler für Tastatureingaben im Dialog-System.
-     * Verarbeitet Leertasten-Eingaben zur Navigation durch Dialoge.
-     * Implementiert Debug-Logging für Tastatureingaben.
+     * Stylesheets neu anwenden (Entwicklungsmodus)
+     * -------------------------------------------
+     * Entfernen und erneutes Hinzufügen lässt JavaFX die Datei neu lesen.
+     * Alle Inhalte hängen an derselben Szene.
      */
-    private static class KeyEventHandler implements EventHandler<KeyEvent> {
-        private final Scene scene;
-        private final DialogueManager dialogueManager;
+    static void reloadStylesheets() {
+        List<String> sheets = List.copyOf(scene.getStylesheets());
+        scene.getStylesheets().clear();
+        scene.getStylesheets().addAll(sheets);
+    }
 
-        public KeyEventHandler(Scene scene, DialogueManager dialogueManager) {
-            this.scene = scene;
-            this.dialogueManager = dialogueManager;
+    /**
+     * Vorladen einer Szene
+     * -------------------
+     * Story-Szenen brauchen nur ihren Hintergrund (der Presenter existiert
+     * bereits), andere Szenen werden komplett im SceneLoader aufgebaut.
+     *
+     * @param sceneId Id der Szene aus story.graph
+     */
+    public static void prefetch(String sceneId) {
+        StoryGraph.Node node = storyGraph.node(sceneId);
+        if (node == null) return;
+        if (node.background() != null) {
+            ImageCache.getInstance().prefetch(node.background());
         }
+        if (!node.story() || storyRoot == null || storyStale) {
+            SceneLoader.getInstance().prefetch(node.fxml());
+        }
+    }
 
-        @Override
-        public void handle(KeyEvent event) {
-            if (event.getCode() == KeyCode.SPACE) {
-                System.out.println("\n=== KeyEvent Debug ===");
-                System.out.println("Space pressed in scene: " + scene.getRoot().getId());
-                System.out.println("Current DialogueManager state: " + dialogueManager);
-                
-                dialogueManager.showNextLine();
-                event.consume();
-                
-                System.out.println("Space key event handled");
-                System.out.println("====================\n");
+    /**
+     * Initialisiert das Dialog-System für eine neue Szene.
+     * Führt folgende Schritte aus:
+     * 1. Sucht Dialog-Label und Namensschild, nur wenn der Inhalt noch
+     *    nicht angebunden ist (der dauerhafte Story-Graph bleibt es
+     *    zwischen Story-Szenen)
+     * 2. Setzt die Szene im DialogueManager (genau einmal pro Wechsel)
+     * 3. Erfasst Debug-Ereignisse im DebugCollector
+     *
+     * @param sceneId Id der Szene, für die der Dialog initialisiert wird
+     */
+    private static void initializeSceneDialog(String sceneId) {
+        Parent content = compositor.getContent();
+        if (dialogueRoot != content) {
+            Label dialogueLabel = (Label) content.lookup("#dialogueLabel");
+            DebugCollector.info(sceneId, "Dialog label lookup: ", dialogueLabel != null ? "found" : "not found");
+            if (dialogueLabel == null) {
+                LOG.error("Could not find dialogue label in {}", sceneId);
+                DebugCollector.error(sceneId, "Could not find dialogue label");
+                DebugCollector.flush("Dialog Setup Error");
+                return;
             }
+            Label speakerLabel = (Label) content.lookup("#speakerLabel");
+            dialogueManager.initializeDialog(dialogueLabel, speakerLabel);
+            dialogueRoot = content;
+            DebugCollector.info(sceneId, "Dialog initialized");
         }
+
+        dialogueManager.setCurrentScene(sceneId);
+        DebugCollector.info(sceneId, "Current scene set in DialogueManager");
+        DebugCollector.flush("Dialog Setup");
     }
 
     /**
-     * Hilfsmethode zum Laden von FXML-Dateien.
-     * Sucht FXML-Dateien im Ressourcen-Verzeichnis und lädt sie.
+     * Szenenwechsel abschließen
+     * ------------------------
+     * ACTIVE bzw. zurück zum vorherigen Inhalt: gibt die Eingabe frei,
+     * erfasst die Dauer seit setRoot() (bzw. zählt den Fehlschlag) und
+     * startet eine während der Animation gemerkte Anfrage.
      *
-     * @param fxml Name der zu ladenden FXML-Datei (ohne .fxml Endung)
-     * @return Parent-Node der geladenen FXML
-     * @throws IOException Bei Problemen beim Laden der FXML-Datei
+     * @param success false, wenn der Wechsel abgebrochen wurde
+     */
+    private static void finishTransition(boolean success) {
+        switchPhase = SwitchPhase.ACTIVE;
+        InputDispatcher.getInstance().endTransition();
+        SceneLifecycleManager.getInstance().transitionCompleted();
+        if (success) {
+            TRANSITION.recordSince(transitionStart);
+        } else {
+            TRANSITION_FAILURES.increment();
+        }
+
+        String queued = queuedScene;
+        queuedScene = null;
+        if (queued != null) {
+            try {
+                setRoot(queued);
+            } catch (IOException e) {
+                LOG.error("Queued transition to " + queued + " failed", e);
+            }
+        }
+    }
+
+    /**
+     * Backlog umschalten
+     * -----------------
+     * Nur in der Story-Szene verfügbar.
      */
-    private static Parent loadFXML(String fxml) throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(App.class.getResource(fxml + ".fxml"));
-        return fxmlLoader.load();
+    public static void toggleBacklog() {
+        if (storyPresenter != null && isStoryShown()) {
+            storyPresenter.toggleBacklog();
+        }
+    }
+
+    /** true, solange der Backlog geöffnet ist (Eingaben gehen dann an die Liste) */
+    public static boolean isBacklogOpen() {
+        return storyPresenter != null && isStoryShown() && storyPresenter.isBacklogOpen();
+    }
+
+    /** Geladener Story-Graph (nach start() verfügbar) */
+    public static StoryGraph getStoryGraph() {
+        return storyGraph;
     }
 
     /**
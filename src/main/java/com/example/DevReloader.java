@@ -0,0 +1,204 @@
+package com.example;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.example.dialogue.DialogueManager;
+import com.example.dialogue.DialoguePacks;
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.story.ScriptReloader;
+import com.example.story.StoryScript;
+
+import javafx.application.Platform;
+
+/**
+ * Hot-Reload im Entwicklungsmodus
+ * ------------------------------
+ * Beobachtet das Ressourcen-Verzeichnis im Quellbaum (-Ddev.resources)
+ * mit einem WatchService und übernimmt Änderungen ohne Neustart.
+ *
+ * Kernfunktionen:
+ * - dialogue.txt bzw. das Sprachpaket der aktiven Sprache (dialogue_en.txt):
+ *   Nur geänderte [Szene]...[End]-Blöcke werden neu geparst
+ *   (ScriptReloader); das neue Skript ersetzt das alte in einem Schritt
+ *   auf dem FX-Thread, die Position in der Story bleibt erhalten
+ * - *.fxml: Vorgeladene Graphen werden verworfen, beim nächsten
+ *   Szenenwechsel wird neu geladen
+ * - *.css: Stylesheets der aktiven Szene werden neu angewendet
+ *
+ * Editoren speichern oft mehrfach kurz hintereinander (Temp-Datei,
+ * Umbenennen, Attribute). Ereignisse werden deshalb gesammelt und erst
+ * nach DEBOUNCE_MS Ruhe verarbeitet.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+final class DevReloader {
+
+    private static final Logger LOG = Log.get(Category.APP);
+
+    /** Ruhezeit nach dem letzten Dateiereignis (überschreibbar über -Ddev.debounce.ms) */
+    private static final long DEBOUNCE_MS = Long.getLong("dev.debounce.ms", 250L);
+
+    private final Path directory;
+    private final DialogueManager dialogueManager;
+    private final ScriptReloader reloader = new ScriptReloader();
+
+    private final ScheduledExecutorService debouncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dev-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Seit der letzten Verarbeitung geänderte Dateien, geschützt durch this */
+    private final Set<String> dirty = new HashSet<>();
+    private ScheduledFuture<?> scheduled;
+
+    /**
+     * @param directory       Ressourcen-Verzeichnis (enthält dialogue*.txt, FXML, CSS)
+     * @param dialogueManager Empfänger des neu geladenen Skripts
+     */
+    DevReloader(Path directory, DialogueManager dialogueManager) {
+        this.directory = directory;
+        this.dialogueManager = dialogueManager;
+    }
+
+    /**
+     * Erstes Laden
+     * -----------
+     * Liest das Sprachpaket aus dem Quellbaum, damit der ScriptReloader
+     * einen Vergleichsstand hat. Ersetzt dialogue.bin, das veraltet sein kann.
+     * Darf auf einem Worker-Thread laufen, aber vor start().
+     *
+     * @param locale Aktive Sprache
+     * @return Vollständig geparstes Skript
+     * @throws IOException Wenn das Paket nicht lesbar ist
+     */
+    StoryScript loadInitial(Locale locale) throws IOException {
+        String dialogue = dialogueFile(locale);
+        StoryScript script = reloader.reload(readDialogue(dialogue));
+        LOG.info("Dev mode: dialogue loaded from {}", directory.resolve(dialogue));
+        return script;
+    }
+
+    /** Text-Paket der Sprache im Quellbaum (dialogue.txt, falls es kein eigenes gibt) */
+    private String dialogueFile(Locale locale) {
+        for (String name : DialoguePacks.baseNames(locale)) {
+            if (Files.isRegularFile(directory.resolve(name + ".txt"))) return name + ".txt";
+        }
+        return "dialogue.txt";
+    }
+
+    /**
+     * Beobachtung starten
+     * ------------------
+     * Startet einen Daemon-Thread, der auf Dateiereignisse wartet.
+     *
+     * @throws IOException Wenn das Verzeichnis nicht beobachtet werden kann
+     */
+    void start() throws IOException {
+        WatchService watcher = directory.getFileSystem().newWatchService();
+        directory.register(watcher,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        Thread thread = new Thread(() -> watch(watcher), "dev-watch");
+        thread.setDaemon(true);
+        thread.start();
+        LOG.info("Dev mode: watching {}", directory);
+    }
+
+    private void watch(WatchService watcher) {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path changed) {
+                        markDirty(changed.getFileName().toString());
+                    }
+                }
+                if (!key.reset()) {
+                    LOG.warn("Dev mode: {} is no longer watchable", directory);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Beendet
+        }
+    }
+
+    /** Merkt die Datei vor und verschiebt die Verarbeitung ans Ende der Ruhezeit */
+    private synchronized void markDirty(String name) {
+        boolean dialogue = name.startsWith("dialogue") && name.endsWith(".txt");
+        if (!dialogue && !name.endsWith(".fxml") && !name.endsWith(".css")) return;
+        dirty.add(name);
+        if (scheduled != null) scheduled.cancel(false);
+        scheduled = debouncer.schedule(this::flush, DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Verarbeitung
+     * -----------
+     * Läuft auf dem Debounce-Thread. Das Parsen passiert hier, auf dem
+     * FX-Thread wird nur noch ausgetauscht.
+     */
+    private void flush() {
+        Set<String> names;
+        synchronized (this) {
+            names = Set.copyOf(dirty);
+            dirty.clear();
+        }
+
+        // Nur das Paket der aktiven Sprache; andere Sprachen bleiben auf der Platte
+        String dialogue = dialogueFile(dialogueManager.getLocale());
+        if (names.contains(dialogue)) {
+            try {
+                StoryScript script = reloader.reload(readDialogue(dialogue));
+                Set<String> changed = reloader.changedScenes();
+                if (!changed.isEmpty()) {
+                    LOG.info("Dev mode: reloaded scenes {}", changed);
+                    Platform.runLater(() -> dialogueManager.replaceScript(script, changed));
+                }
+            } catch (IOException e) {
+                LOG.warn("Dev mode: could not read {}: {}", dialogue, e);
+            }
+        }
+
+        boolean css = false;
+        for (String name : names) {
+            if (name.endsWith(".fxml")) {
+                String fxml = name.substring(0, name.length() - ".fxml".length());
+                LOG.info("Dev mode: {} changed", name);
+                Platform.runLater(() -> App.invalidateFxml(fxml));
+            } else if (name.endsWith(".css")) {
+                css = true;
+            }
+        }
+        if (css) {
+            LOG.info("Dev mode: reapplying stylesheets");
+            Platform.runLater(App::reloadStylesheets);
+        }
+    }
+
+    private String readDialogue(String name) throws IOException {
+        return Files.readString(directory.resolve(name), StandardCharsets.UTF_8);
+    }
+}
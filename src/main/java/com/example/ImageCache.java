@@ -0,0 +1,294 @@
+package com.example;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.example.assets.AssetArchive;
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.metrics.Counter;
+import com.example.metrics.LatencyHistogram;
+import com.example.metrics.Metrics;
+
+import javafx.application.Platform;
+import javafx.geometry.Dimension2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * Bild-Cache für Szenenhintergründe
+ * -------------------------------
+ * Zentrale Stelle zum Dekodieren und Zwischenspeichern von Hintergrundbildern.
+ *
+ * Kernfunktionen:
+ * - Dekodierung direkt in Anzeigegröße (VirtualCanvas.imageSize(): belegte
+ *   Bildschirmpixel, bei -Drender.scale entsprechend kleiner)
+ * - Laden auf Hintergrund-Threads
+ * - Schlüssel aus Ressource und Zielgröße
+ * - LRU-Verdrängung unter einem Byte-Budget
+ * - Vorskalierte Varianten aus backgrounds.pak (AssetPacker), passend
+ *   zur Bildschirmgröße; Originale nur als Fallback
+ *
+ * Konfiguration:
+ * - -Dimagecache.budget.mb: Budget für dekodierte Pixel (Standard 256 MB)
+ *
+ * Statt ein 3 MB PNG in voller Auflösung zu dekodieren und anschließend
+ * per fitWidth/fitHeight herunterzuskalieren, wird das Bild nur einmal in
+ * der tatsächlich benötigten Größe im Speicher gehalten.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class ImageCache {
+
+    private static final Logger LOG = Log.get(Category.ASSETS);
+
+    private static final LatencyHistogram DECODE = Metrics.histogram("image.decode",
+            "Background decode on the image-decode threads");
+    private static final Counter HITS = Metrics.counter("image.cache.hits", "ImageCache requests served from the cache");
+    private static final Counter MISSES = Metrics.counter("image.cache.misses", "ImageCache requests that started a decode");
+
+    private static final long BUDGET_BYTES =
+            Long.getLong("imagecache.budget.mb", 256L) * 1024 * 1024;
+
+    private static final ImageCache instance = new ImageCache();
+
+    /** Schlüssel in ImageView.getProperties(): zuletzt angeforderte Ladung */
+    private static final String BOUND = ImageCache.class.getName() + ".bound";
+
+    /** Cache-Schlüssel: Ressource plus angeforderte Zielgröße */
+    private record Key(String resource, int width, int height) {}
+
+    /** Cache-Eintrag: Ladevorgang und belegte Bytes */
+    private static final class Entry {
+        final CompletableFuture<Image> image;
+        long bytes;
+
+        Entry(CompletableFuture<Image> image, long bytes) {
+            this.image = image;
+            this.bytes = bytes;
+        }
+    }
+
+    private final ExecutorService decoder = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "image-decode");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Einträge in Zugriffsreihenfolge (LRU), geschützt durch this */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes = 0;
+
+    /** Vorskalierte Varianten (null ohne backgrounds.pak), geschützt durch this */
+    private AssetArchive archive;
+    private boolean archiveOpened;
+
+    private ImageCache() {}
+
+    public static ImageCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Bild anfordern
+     * -------------
+     * Liefert das Bild in Anzeigegröße. Ist es noch nicht im Cache,
+     * wird es im Hintergrund dekodiert.
+     *
+     * @param resource Pfad relativ zu com/example (z.B. "Images/end.png")
+     * @return Future, das mit dem dekodierten Bild abgeschlossen wird
+     */
+    public CompletableFuture<Image> request(String resource) {
+        Dimension2D size = VirtualCanvas.imageSize();
+        return request(resource, (int) size.getWidth(), (int) size.getHeight());
+    }
+
+    /**
+     * Bild in bestimmter Größe anfordern
+     * --------------------------------
+     * Das Seitenverhältnis bleibt erhalten; das Bild passt in width x height.
+     *
+     * @param resource Pfad relativ zu com/example
+     * @param width    Zielbreite in Pixeln
+     * @param height   Zielhöhe in Pixeln
+     * @return Future, das mit dem dekodierten Bild abgeschlossen wird
+     */
+    public CompletableFuture<Image> request(String resource, int width, int height) {
+        Key key = new Key(resource, width, height);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null) {
+                HITS.increment();
+                return entry.image;
+            }
+            MISSES.increment();
+
+            // Vorläufige Schätzung, bis die tatsächliche Größe bekannt ist
+            entry = new Entry(new CompletableFuture<>(), (long) width * height * 4L);
+            entries.put(key, entry);
+            usedBytes += entry.bytes;
+            evict(key);
+        }
+
+        Entry loading = entry;
+        decoder.execute(() -> decode(key, loading));
+        return loading.image;
+    }
+
+    /**
+     * Hintergrund zuweisen
+     * -------------------
+     * Setzt das Bild auf die ImageView, sobald es dekodiert ist.
+     * Liegt es bereits vor, wird es sofort gesetzt.
+     *
+     * Die zuletzt angeforderte Ladung wird in den Properties der View
+     * vermerkt; eine langsamere, ältere Dekodierung (z.B. der vorigen
+     * Szene im wiederverwendeten Story-Presenter) überschreibt das Bild
+     * daher nicht mehr. Auf dem FX-Thread aufrufen.
+     *
+     * @param view     Ziel-ImageView
+     * @param resource Pfad relativ zu com/example
+     */
+    public void bind(ImageView view, String resource) {
+        CompletableFuture<Image> image = request(resource);
+        view.getProperties().put(BOUND, image);
+        Image ready = image.getNow(null);
+        if (ready != null) {
+            view.setImage(ready);
+            return;
+        }
+        image.thenAccept(loaded -> Platform.runLater(() -> {
+            if (view.getProperties().get(BOUND) == image) {
+                view.setImage(loaded);
+            }
+        }));
+    }
+
+    /**
+     * Zuweisung lösen
+     * --------------
+     * Entfernt das Bild; eine noch laufende Dekodierung setzt es nicht mehr.
+     *
+     * @param view ImageView aus bind()
+     */
+    public void unbind(ImageView view) {
+        view.getProperties().remove(BOUND);
+        view.setImage(null);
+    }
+
+    /** Vorladen ohne Zuweisung */
+    public void prefetch(String resource) {
+        request(resource);
+    }
+
+    /**
+     * Archiv vorskalierter Varianten
+     * -----------------------------
+     * Wird beim ersten Dekodieren geöffnet. Fehlt es (z.B. Start aus der
+     * IDE ohne Maven-Build), wird immer das Original dekodiert.
+     */
+    private synchronized AssetArchive archive() {
+        if (!archiveOpened) {
+            archiveOpened = true;
+            URL url = App.class.getResource(AssetArchive.ARCHIVE);
+            if (url != null) {
+                try {
+                    archive = AssetArchive.open(url);
+                } catch (IOException e) {
+                    LOG.warn("Could not open {}: {}", AssetArchive.ARCHIVE, e);
+                }
+            } else {
+                LOG.debug("No {}, decoding original images", AssetArchive.ARCHIVE);
+            }
+        }
+        return archive;
+    }
+
+    /** Dekodiert ein Bild auf einem Worker-Thread */
+    private void decode(Key key, Entry entry) {
+        long start = System.nanoTime();
+        Image image = decodeVariant(key);
+        if (image == null) {
+            URL url = App.class.getResource(key.resource());
+            if (url == null) {
+                LOG.error("Resource not found: {}", key.resource());
+                forget(key, entry);
+                entry.image.completeExceptionally(new IllegalArgumentException(key.resource()));
+                return;
+            }
+            image = new Image(url.toExternalForm(), key.width(), key.height(), true, true, false);
+        }
+
+        if (image.isError()) {
+            LOG.error("Decode failed for {}", key.resource());
+            forget(key, entry);
+            entry.image.completeExceptionally(image.getException());
+            return;
+        }
+
+        long bytes = (long) image.getWidth() * (long) image.getHeight() * 4L;
+        synchronized (this) {
+            if (entries.get(key) == entry) {
+                usedBytes += bytes - entry.bytes;
+                entry.bytes = bytes;
+                evict(key);
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Decoded {} at {}x{}", key.resource(), (int) image.getWidth(), (int) image.getHeight());
+        }
+        DECODE.recordSince(start);
+        entry.image.complete(image);
+    }
+
+    /**
+     * Vorskalierte Variante dekodieren
+     * -------------------------------
+     * Nimmt die kleinste Variante aus dem Archiv, die die Zielgröße
+     * abdeckt. Passt sie genau, entfällt das Skalieren beim Dekodieren.
+     *
+     * @return Bild oder null, wenn die Ressource nicht im Archiv ist
+     */
+    private Image decodeVariant(Key key) {
+        AssetArchive assets = archive();
+        AssetArchive.Variant variant = assets == null ? null : assets.select(key.resource(), key.width(), key.height());
+        if (variant == null) return null;
+
+        LOG.debug("Using {}x{} variant of {}", variant.width(), variant.height(), key.resource());
+        try (InputStream stream = assets.open(variant)) {
+            return new Image(stream, key.width(), key.height(), true, true);
+        } catch (IOException e) {
+            LOG.warn("Variant of {} unreadable: {}", key.resource(), e);
+            return null;
+        }
+    }
+
+    /** Entfernt einen fehlgeschlagenen Eintrag */
+    private synchronized void forget(Key key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            usedBytes -= entry.bytes;
+        }
+    }
+
+    /** LRU-Verdrängung; der gerade angeforderte Eintrag bleibt erhalten */
+    private void evict(Key keep) {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (usedBytes > BUDGET_BYTES && it.hasNext()) {
+            Map.Entry<Key, Entry> eldest = it.next();
+            if (eldest.getKey().equals(keep)) continue;
+            usedBytes -= eldest.getValue().bytes;
+            it.remove();
+            LOG.debug("Evicted {}", eldest.getKey().resource());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.example;
+
+import java.io.IOException;
+
+import com.example.dialogue.DialogueManager;
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.metrics.LatencyHistogram;
+import com.example.metrics.Metrics;
+
+import javafx.animation.AnimationTimer;
+import javafx.event.EventHandler;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+
+/**
+ * Zentraler Eingabe-Dispatcher
+ * ---------------------------
+ * Einziger Weg, über den Tastatureingaben den Dialog weiterschalten.
+ * Ersetzt die beiden früheren KeyEventHandler (com.example und App).
+ *
+ * Kernfunktionen:
+ * - Zusammenfassen: Mehrere Leertasten-Events innerhalb eines Frames
+ *   lösen genau einen showNextLine()-Aufruf aus
+ * - Sperre während Übergängen: Solange ein Szenenwechsel läuft, werden
+ *   Weiter-Eingaben verworfen (kein zweites App.setRoot); ein neuer
+ *   Druck der Leertaste überspringt stattdessen die Animation
+ * - Außerhalb der Story-Szene (Menü) bleiben Tasten unberührt
+ * - Gehaltene Taste: Nach einem Übergang muss die Leertaste erst
+ *   losgelassen werden, bevor sie wieder weiterschaltet
+ * - Schnellspeichern (F5) und Schnellladen (F9) in QUICK_SLOT
+ * - Backlog (B); solange er offen ist, gehen alle anderen Tasten an die Liste
+ *
+ * Alle Methoden laufen auf dem JavaFX Application Thread.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class InputDispatcher implements EventHandler<KeyEvent> {
+
+    private static final Logger LOG = Log.get(Category.INPUT);
+
+    /** Vom ersten Tastendruck eines Frames bis der Text aktualisiert ist */
+    private static final LatencyHistogram KEY_TO_TEXT = Metrics.histogram("input.key_to_text",
+            "Space key press until the dialogue label is updated");
+
+    private static final InputDispatcher instance = new InputDispatcher();
+
+    /** Speicherplatz für F5/F9 */
+    public static final int QUICK_SLOT = 0;
+
+    /**
+     * Zustand
+     * ------
+     * advanceRequested: Im aktuellen Frame wurde weitergeschaltet
+     * transitionInFlight: Ein Szenenwechsel läuft
+     * spaceDown: Leertaste ist gedrückt (Auto-Repeat-Erkennung)
+     * awaitRelease: Taste wurde über einen Übergang gehalten
+     * coalesced/dropped: Zähler für das Debug-Logging
+     * requestedAt: Zeitpunkt des Tastendrucks, der weiterschaltet
+     */
+    private boolean advanceRequested;
+    private boolean transitionInFlight;
+    private boolean spaceDown;
+    private boolean awaitRelease;
+    private long coalesced;
+    private long dropped;
+    private long requestedAt;
+
+    /** Feuert einmal im nächsten Frame und stoppt sich dann selbst */
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            dispatchAdvance();
+        }
+    };
+
+    private InputDispatcher() {}
+
+    public static InputDispatcher getInstance() {
+        return instance;
+    }
+
+    /**
+     * Szene anbinden
+     * -------------
+     * Registriert den Dispatcher als Event-Filter. Mehrfache Aufrufe
+     * für dieselbe Szene sind wirkungslos.
+     *
+     * @param scene Dauerhafte Szene der Anwendung
+     */
+    public void install(Scene scene) {
+        if (scene.getProperties().putIfAbsent(InputDispatcher.class, this) != null) return;
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, this);
+        scene.addEventFilter(KeyEvent.KEY_RELEASED, this);
+        LOG.debug("InputDispatcher installed on scene {}", scene);
+    }
+
+    /**
+     * Event-Verarbeitung
+     * ----------------
+     * Leertaste wird immer konsumiert; weitergeschaltet wird erst im
+     * nächsten Frame und höchstens einmal pro Frame.
+     *
+     * @param event JavaFX KeyEvent
+     */
+    @Override
+    public void handle(KeyEvent event) {
+        boolean pressed = event.getEventType() == KeyEvent.KEY_PRESSED;
+        if (event.getCode() == KeyCode.SPACE && !pressed) {
+            spaceDown = false;
+            awaitRelease = false;
+        }
+        if (!transitionInFlight && !App.isStoryShown()) return;
+
+        if (event.getCode() == KeyCode.B) {
+            event.consume();
+            if (pressed && !transitionInFlight) App.toggleBacklog();
+            return;
+        }
+        if (App.isBacklogOpen()) return;
+
+        if (event.getCode() == KeyCode.F5 || event.getCode() == KeyCode.F9) {
+            event.consume();
+            if (pressed && !transitionInFlight) {
+                handleQuickSlot(event.getCode() == KeyCode.F5);
+            }
+            return;
+        }
+        if (event.getCode() != KeyCode.SPACE) return;
+        event.consume();
+        if (!pressed) return;
+
+        boolean repeat = spaceDown;
+        spaceDown = true;
+        LOG.trace("Space pressed (repeat={})", repeat);
+
+        if (transitionInFlight) {
+            if (repeat || !App.skipTransition()) dropped++;
+            return;
+        }
+        if (awaitRelease) {
+            dropped++;
+            return;
+        }
+        if (advanceRequested) {
+            coalesced++;
+            return;
+        }
+        advanceRequested = true;
+        requestedAt = System.nanoTime();
+        pulse.start();
+    }
+
+    /** Schnellspeichern bzw. -laden; geschrieben wird im Hintergrund */
+    private void handleQuickSlot(boolean save) {
+        DialogueManager dialogue = DialogueManager.getInstance();
+        if (save) {
+            dialogue.save(QUICK_SLOT).whenComplete((file, error) -> {
+                if (error != null) LOG.warn("Quick save failed: {}", error.getMessage());
+                else LOG.info("Quick save written to {}", file);
+            });
+            return;
+        }
+        try {
+            dialogue.load(QUICK_SLOT);
+        } catch (IOException e) {
+            LOG.warn("Quick load failed: {}", e.getMessage());
+        }
+    }
+
+    /** Führt die zusammengefasste Eingabe im Frame aus */
+    private void dispatchAdvance() {
+        if (!advanceRequested) return;
+        advanceRequested = false;
+        if (transitionInFlight) return;
+        DialogueManager.getInstance().showNextLine();
+        KEY_TO_TEXT.recordSince(requestedAt);
+    }
+
+    /**
+     * Übergang beginnen
+     * ----------------
+     * Sperrt die Eingabe bis endTransition().
+     *
+     * @return false, wenn bereits ein Übergang läuft
+     */
+    public boolean beginTransition() {
+        if (transitionInFlight) return false;
+        transitionInFlight = true;
+        advanceRequested = false;
+        pulse.stop();
+        return true;
+    }
+
+    /**
+     * Übergang beenden
+     * ---------------
+     * Gibt die Eingabe wieder frei. Eine noch gehaltene Leertaste
+     * schaltet erst nach dem Loslassen wieder weiter.
+     */
+    public void endTransition() {
+        if (!transitionInFlight) return;
+        transitionInFlight = false;
+        awaitRelease = spaceDown;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Transition finished (coalesced {}, dropped {})", coalesced, dropped);
+        }
+    }
+
+    /** true, solange ein Szenenwechsel läuft */
+    public boolean isTransitionInFlight() {
+        return transitionInFlight;
+    }
+}
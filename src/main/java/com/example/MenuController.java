@@ -2,6 +2,12 @@ package com.example;
 
 import java.io.IOException;
 
+import com.example.dialogue.DialogueManager;
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.story.StoryGraph;
+
 import javafx.fxml.FXML;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.AnchorPane;
@@ -16,6 +22,7 @@ import javafx.scene.layout.AnchorPane;
  * - Spielstart-Steuerung
  * - Programm-Beendigung
  * - Hintergrund-Skalierung
+ * - Freigabe des Hintergrunds beim Verlassen (onExit)
  * 
  * UI-Komponenten:
  * - rootPane: Flex-Container für dynamisches Layout
@@ -31,7 +38,9 @@ import javafx.scene.layout.AnchorPane;
  * @author Type Soul Productions
  * @version 1.0
  */
-public class MenuController {
+public class MenuController implements SceneLifecycle {
+
+    private static final Logger LOG = Log.get(Category.SCENE);
 
     /** 
      * UI-Komponenten (FXML-injiziert)
@@ -40,28 +49,61 @@ public class MenuController {
     @FXML private ImageView backgroundImage;  // Hintergrundbild
     @FXML private AnchorPane rootPane;        // Hauptcontainer
 
+    /** Menü-Hintergrund (über ImageCache in Bildschirmgröße dekodiert) */
+    private static final String BACKGROUND = "Images/Zhuāng Zhōu Liè Guó Zh - Menu Backgroundd.jpg";
+
     /**
      * Menü-Initialisierung
      * ------------------
-     * FXML-Loader ruft diese Methode automatisch auf.
-     * 
-     * Layout-Konfiguration:
-     * 1. Bindet Bildgröße an Container
-     * 2. Behält Seitenverhältnis bei
-     * 3. Aktiviert responsives Verhalten
+     * FXML-Loader ruft diese Methode automatisch auf, beim Start auf einem
+     * Worker-Thread. Deshalb hier nur Einstellungen am noch losen Graphen;
+     * Bindungen, Hintergrund und Vorladen folgen in onEnter().
      */
     @FXML
     public void initialize() {
-        // Debug-Start
-        System.out.println("\n=== Menu Initialization ===");
-        
+        backgroundImage.setPreserveRatio(true);
+    }
+
+    /**
+     * Menü anzeigen
+     * ------------
+     * Läuft auf dem FX-Thread, bevor das Menü eingeblendet wird.
+     *
+     * Layout-Konfiguration:
+     * 1. Bindet Bildgröße an Container
+     * 2. Lädt Hintergrund über den ImageCache
+     * 3. Lädt die erste Spielszene schon während des Menüs vor
+     */
+    @Override
+    public void onEnter() {
         // Bind image size to container
         backgroundImage.fitWidthProperty().bind(rootPane.widthProperty());
         backgroundImage.fitHeightProperty().bind(rootPane.heightProperty());
-        backgroundImage.setPreserveRatio(true);
-        
-        System.out.println("Menu background configured");
-        System.out.println("=========================\n");
+        ImageCache.getInstance().bind(backgroundImage, BACKGROUND);
+
+        LOG.debug("Menu background configured");
+
+        // Ohne Story-Graph (z.B. in den Benchmarks) entfällt das Vorladen
+        StoryGraph graph = App.getStoryGraph();
+        if (graph != null) {
+            for (String next : graph.successors("menu")) {
+                App.prefetch(next);
+            }
+        }
+    }
+
+    /**
+     * Menü verlassen
+     * -------------
+     * Löst Bindungen und Bild, damit der verworfene Graph kein dekodiertes
+     * Bild mehr festhält (der ImageCache verwaltet es weiter).
+     */
+    @Override
+    public void onExit(boolean discarded) {
+        backgroundImage.fitWidthProperty().unbind();
+        backgroundImage.fitHeightProperty().unbind();
+        ImageCache.getInstance().unbind(backgroundImage);
+        LOG.debug("Menu released (discarded={})", discarded);
     }
 
     /**
@@ -77,11 +119,10 @@ public class MenuController {
     @FXML
     public void handlePlay() {
         try {
-            System.out.println("Starting game...");
-            App.setRoot("FirstScene");
+            LOG.info("Starting game...");
+            App.setRoot(App.getStoryGraph().next("menu", DialogueManager.getInstance().getFlags()));
         } catch (IOException e) {
-            System.err.println("Error starting game: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error starting game", e);
         }
     }
 
@@ -97,7 +138,7 @@ public class MenuController {
      */
     @FXML
     public void handleQuit() {
-        System.out.println("Shutting down application...");
+        LOG.info("Shutting down application...");
         System.exit(0);
     }
 }
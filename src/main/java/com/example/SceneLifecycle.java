@@ -0,0 +1,30 @@
+package com.example;
+
+/**
+ * Lebenszyklus eines Szenen-Controllers
+ * -----------------------------------
+ * Controller, die dieses Interface implementieren, werden vom
+ * SceneLifecycleManager beim Betreten und Verlassen ihrer Szene benachrichtigt.
+ *
+ * onExit() soll alles freigeben, was die Szene über ihre Anzeige hinaus
+ * festhält: Bilder, Handler an langlebigen Objekten, Referenzen in
+ * Singletons (z.B. das Dialog-Label im DialogueManager).
+ *
+ * Alle Aufrufe laufen auf dem JavaFX Application Thread.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public interface SceneLifecycle {
+
+    /** Die Szene wird angezeigt (vor der Einblendung) */
+    default void onEnter() {}
+
+    /**
+     * Die Szene wurde ausgeblendet
+     *
+     * @param discarded true, wenn der Graph verworfen wird; false, wenn er
+     *                  für ein späteres onEnter() erhalten bleibt
+     */
+    void onExit(boolean discarded);
+}
@@ -0,0 +1,132 @@
+package com.example;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.example.log.Category;
+import com.example.log.DebugCollector;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.metrics.Counter;
+import com.example.metrics.Metrics;
+
+import javafx.scene.Parent;
+
+/**
+ * Szenen-Lebenszyklus
+ * ------------------
+ * Ruft die Enter-/Exit-Hooks der Controller auf und gibt verworfene
+ * Szenengraphen frei.
+ *
+ * Kernfunktionen:
+ * - enter(): SceneLifecycle.onEnter() des Controllers
+ * - exit(): SceneLifecycle.onExit(); verworfene Graphen verlieren zusätzlich
+ *   ihre Controller-Referenz
+ * - Leck-Erkennung (-Dscene.leakcheck=N): Verworfene Graphen werden über
+ *   WeakReference beobachtet; ist einer N Szenenwechsel später noch
+ *   erreichbar, wird er gemeldet (Log, DebugCollector, Zähler scene.leaks)
+ *
+ * Die Leck-Erkennung ruft vor der Meldung einmal System.gc() auf, damit
+ * nur wirklich erreichbare Graphen gemeldet werden. Sie ist deshalb nur
+ * für Diagnose gedacht und standardmäßig aus.
+ *
+ * Alle Methoden laufen auf dem JavaFX Application Thread.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class SceneLifecycleManager {
+
+    private static final Logger LOG = Log.get(Category.SCENE);
+
+    /** Szenenwechsel bis zur Meldung; 0 schaltet die Leck-Erkennung ab */
+    private static final int LEAK_CHECK_AFTER = Integer.getInteger("scene.leakcheck", 0);
+
+    private static final Counter LEAKS = Metrics.counter("scene.leaks",
+            "Discarded scene graphs still reachable after scene.leakcheck transitions");
+
+    private static final SceneLifecycleManager instance = new SceneLifecycleManager();
+
+    /** Verworfener Graph unter Beobachtung */
+    private record Released(WeakReference<Parent> root, String name, int releasedAt) {}
+
+    private final List<Released> released = new ArrayList<>();
+    private int transitions;
+
+    private SceneLifecycleManager() {}
+
+    public static SceneLifecycleManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Szene betreten
+     *
+     * @param root Wurzelknoten des Inhalts, der gleich angezeigt wird
+     */
+    public void enter(Parent root) {
+        if (SceneLoader.controllerOf(root) instanceof SceneLifecycle controller) {
+            controller.onEnter();
+        }
+    }
+
+    /**
+     * Szene verlassen
+     * --------------
+     * Nach der Ausblendung aufrufen, wenn der Inhalt nicht mehr in der
+     * Szene hängt.
+     *
+     * @param root    Wurzelknoten des verlassenen Inhalts
+     * @param discard true, wenn der Graph nicht wiederverwendet wird
+     */
+    public void exit(Parent root, boolean discard) {
+        Object controller = SceneLoader.controllerOf(root);
+        if (controller instanceof SceneLifecycle lifecycle) {
+            lifecycle.onExit(discard);
+        }
+        if (!discard) return;
+
+        root.getProperties().clear();
+        String name = controller != null ? controller.getClass().getSimpleName() : root.getClass().getSimpleName();
+        LOG.debug("Released scene graph {}", name);
+        if (LEAK_CHECK_AFTER > 0) {
+            released.add(new Released(new WeakReference<>(root), name, transitions));
+        }
+    }
+
+    /**
+     * Szenenwechsel abgeschlossen
+     * --------------------------
+     * Zählt den Wechsel und prüft in der Leck-Erkennung, ob verworfene
+     * Graphen nach LEAK_CHECK_AFTER Wechseln noch erreichbar sind.
+     */
+    public void transitionCompleted() {
+        transitions++;
+        if (LEAK_CHECK_AFTER <= 0) return;
+
+        released.removeIf(entry -> entry.root().get() == null);
+        boolean due = false;
+        for (Released entry : released) {
+            due |= transitions - entry.releasedAt() >= LEAK_CHECK_AFTER;
+        }
+        if (!due) return;
+
+        // Nur im Diagnosemodus: nicht erreichbare Graphen tatsächlich einsammeln lassen
+        System.gc();
+        Iterator<Released> it = released.iterator();
+        while (it.hasNext()) {
+            Released entry = it.next();
+            if (entry.root().get() == null) {
+                it.remove();
+            } else if (transitions - entry.releasedAt() >= LEAK_CHECK_AFTER) {
+                it.remove();
+                LEAKS.increment();
+                LOG.warn("Scene graph {} still reachable {} transitions after release",
+                        entry.name(), transitions - entry.releasedAt());
+                DebugCollector.warning(entry.name(), "Scene graph leaked");
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.example;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.metrics.LatencyHistogram;
+import com.example.metrics.Metrics;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * Szenen-Vorlader
+ * --------------
+ * Baut Szenengraphen im Hintergrund auf, bevor sie gebraucht werden.
+ *
+ * Kernfunktionen:
+ * - FXML-Parsing, Controller-Erzeugung und Bilddekodierung auf einem Worker-Thread
+ * - Begrenzter, größenbewusster LRU-Cache für fertige Szenengraphen
+ * - Synchrones Laden als Fallback, wenn nichts vorgeladen wurde
+ *
+ * Ablauf:
+ * 1. DialogueManager meldet kurz vor Dialogende die Folgeszene (prefetch)
+ * 2. Worker lädt die FXML und legt den Parent im Cache ab
+ * 3. App.setRoot entnimmt den fertigen Parent (take)
+ *
+ * Ein Parent kann nur in einem Szenengraphen hängen. Einträge werden
+ * deshalb beim Entnehmen aus dem Cache entfernt.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class SceneLoader {
+
+    private static final Logger LOG = Log.get(Category.SCENE);
+
+    private static final LatencyHistogram FXML_LOAD = Metrics.histogram("fxml.load",
+            "FXML parsing and controller creation (any thread)");
+
+    /**
+     * Cache-Grenzen
+     * ------------
+     * MAX_ENTRIES: Maximale Anzahl vorgeladener Szenen
+     * MAX_BYTES: Geschätzter Speicher aller dekodierten Bilder im Cache
+     *            (überschreibbar über -Dsceneloader.budget.mb)
+     */
+    private static final int MAX_ENTRIES = 3;
+    private static final long MAX_BYTES =
+            Long.getLong("sceneloader.budget.mb", 192L) * 1024 * 1024;
+
+    private static final SceneLoader instance = new SceneLoader();
+
+    /** Schlüssel, unter dem der Controller in den Root-Properties liegt */
+    private static final String CONTROLLER_KEY = "com.example.controller";
+
+    /** Eintrag im Cache: fertiger Graph mit geschätzter Größe */
+    private static final class CachedScene {
+        final Parent root;
+        final long bytes;
+
+        CachedScene(Parent root, long bytes) {
+            this.root = root;
+            this.bytes = bytes;
+        }
+    }
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scene-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Laufende Ladevorgänge pro FXML-Name */
+    private final Map<String, Future<Parent>> pending = new ConcurrentHashMap<>();
+
+    /** Fertige Graphen in Zugriffsreihenfolge (LRU), geschützt durch this */
+    private final LinkedHashMap<String, CachedScene> ready = new LinkedHashMap<>(8, 0.75f, true);
+    private long readyBytes = 0;
+
+    private SceneLoader() {}
+
+    public static SceneLoader getInstance() {
+        return instance;
+    }
+
+    /**
+     * Vorladen
+     * -------
+     * Startet das Laden der Szene auf dem Worker-Thread.
+     * Bereits geladene oder laufende Szenen werden ignoriert.
+     *
+     * @param fxml Name der FXML-Datei (ohne .fxml Endung)
+     */
+    public void prefetch(String fxml) {
+        if (fxml == null) return;
+        synchronized (this) {
+            if (ready.containsKey(fxml)) return;
+        }
+        pending.computeIfAbsent(fxml, name -> worker.submit(() -> loadIntoCache(name)));
+    }
+
+    /**
+     * Szenengraph entnehmen
+     * --------------------
+     * Liefert den vorgeladenen Graphen, wartet auf einen laufenden
+     * Ladevorgang oder lädt synchron, wenn nichts vorbereitet ist.
+     *
+     * @param fxml Name der FXML-Datei (ohne .fxml Endung)
+     * @return Nicht eingehängter Parent-Node der Szene
+     * @throws IOException Bei Problemen beim Laden der FXML-Datei
+     */
+    public Parent take(String fxml) throws IOException {
+        Future<Parent> future;
+        synchronized (this) {
+            CachedScene cached = remove(fxml);
+            if (cached != null) {
+                LOG.debug("Cache hit for {}", fxml);
+                return cached.root;
+            }
+            future = pending.get(fxml);
+        }
+
+        if (future != null) {
+            try {
+                Parent root = future.get();
+                // Der Worker hat den Graphen bereits abgelegt, bevor get() zurückkehrt
+                synchronized (this) {
+                    remove(fxml);
+                }
+                LOG.debug("Waited for prefetch of {}", fxml);
+                return root;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOG.warn("Prefetch of {} failed: {}", fxml, e.getCause());
+            }
+        }
+
+        LOG.debug("Cache miss for {}, loading synchronously", fxml);
+        return loadFXML(fxml);
+    }
+
+    /**
+     * Worker-Aufgabe
+     * -------------
+     * Lädt die Szene und legt sie im Cache ab. Das Ablegen passiert
+     * vor der Rückgabe, damit take() nach future.get() aufräumen kann.
+     */
+    private Parent loadIntoCache(String fxml) throws IOException {
+        try {
+            Parent root = loadFXML(fxml);
+            long bytes = estimateBytes(root);
+            synchronized (this) {
+                CachedScene previous = ready.put(fxml, new CachedScene(root, bytes));
+                if (previous != null) readyBytes -= previous.bytes;
+                readyBytes += bytes;
+                evict();
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Prefetched {} (~{} KB)", fxml, bytes / 1024);
+            }
+            return root;
+        } finally {
+            pending.remove(fxml);
+        }
+    }
+
+    /** Entfernt die ältesten Einträge, bis Anzahl und Budget eingehalten sind */
+    private void evict() {
+        Iterator<Map.Entry<String, CachedScene>> it = ready.entrySet().iterator();
+        while (it.hasNext() && (ready.size() > MAX_ENTRIES || readyBytes > MAX_BYTES)) {
+            Map.Entry<String, CachedScene> eldest = it.next();
+            readyBytes -= eldest.getValue().bytes;
+            it.remove();
+            LOG.debug("Evicted {}", eldest.getKey());
+        }
+    }
+
+    /**
+     * Verwerfen
+     * --------
+     * Entfernt einen vorgeladenen Graphen, z.B. nachdem sich die FXML
+     * geändert hat.
+     *
+     * @param fxml Name der FXML-Datei (ohne .fxml Endung)
+     */
+    public synchronized void invalidate(String fxml) {
+        if (remove(fxml) != null) {
+            LOG.debug("Invalidated {}", fxml);
+        }
+    }
+
+    private CachedScene remove(String fxml) {
+        CachedScene cached = ready.remove(fxml);
+        if (cached != null) readyBytes -= cached.bytes;
+        return cached;
+    }
+
+    /**
+     * Speicherschätzung
+     * ----------------
+     * Summiert die dekodierte Größe (4 Byte pro Pixel) aller Bilder im Graphen.
+     */
+    private static long estimateBytes(Node node) {
+        long bytes = 0;
+        if (node instanceof ImageView imageView) {
+            Image image = imageView.getImage();
+            if (image != null) {
+                bytes += (long) image.getWidth() * (long) image.getHeight() * 4L;
+            }
+        }
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                bytes += estimateBytes(child);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Hilfsmethode zum Laden von FXML-Dateien.
+     * Sucht FXML-Dateien im Ressourcen-Verzeichnis und lädt sie.
+     *
+     * @param fxml Name der zu ladenden FXML-Datei (ohne .fxml Endung)
+     * @return Parent-Node der geladenen FXML
+     * @throws IOException Bei Problemen beim Laden der FXML-Datei
+     */
+    static Parent loadFXML(String fxml) throws IOException {
+        long start = System.nanoTime();
+        FXMLLoader fxmlLoader = new FXMLLoader(App.resource(fxml + ".fxml"));
+        Parent root = fxmlLoader.load();
+        root.getProperties().put(CONTROLLER_KEY, fxmlLoader.getController());
+        FXML_LOAD.recordSince(start);
+        return root;
+    }
+
+    /**
+     * Controller-Zugriff
+     * -----------------
+     * Liefert den Controller, den FXMLLoader für diesen Graphen erzeugt hat.
+     *
+     * @param root Von loadFXML()/take() gelieferter Parent
+     * @return Controller oder null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T controllerOf(Parent root) {
+        return (T) root.getProperties().get(CONTROLLER_KEY);
+    }
+}
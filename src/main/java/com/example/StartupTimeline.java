@@ -0,0 +1,131 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.example.log.Logger;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Zeitmessung des Startvorgangs
+ * ----------------------------
+ * Sammelt Beginn und Dauer jeder Startphase, unabhängig davon, auf
+ * welchem Thread sie läuft, und gibt am Ende eine Aufstellung aus:
+ *
+ *   story.graph       +2 ms     3 ms  [startup-1]
+ *   dialogue          +2 ms    41 ms  [startup-2]
+ *   first frame      +48 ms     0 ms  [JavaFX Application Thread]
+ *
+ * Zeiten sind relativ zum Erzeugen der Timeline (Beginn von App.start).
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+final class StartupTimeline {
+
+    /** Eine abgeschlossene Phase */
+    private record Phase(String name, long startNanos, long endNanos, String thread) {}
+
+    private final long origin = System.nanoTime();
+    private final List<Phase> phases = new ArrayList<>();
+
+    /**
+     * Phase asynchron ausführen
+     * ------------------------
+     * @param name     Name in der Aufstellung
+     * @param task     Arbeit der Phase
+     * @param executor Thread(s) für die Phase
+     * @return Future mit dem Ergebnis; Fehler als CompletionException
+     */
+    <T> CompletableFuture<T> async(String name, Callable<T> task, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> time(name, task), executor);
+    }
+
+    /**
+     * Phase auf dem aktuellen Thread ausführen
+     *
+     * @param name Name in der Aufstellung
+     * @param task Arbeit der Phase
+     * @return Ergebnis der Phase; Fehler als CompletionException
+     */
+    <T> T time(String name, Callable<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+        } finally {
+            record(name, start);
+        }
+    }
+
+    /** Zeitpunkt ohne Dauer festhalten */
+    void mark(String name) {
+        record(name, System.nanoTime());
+    }
+
+    /**
+     * Nächsten Frame festhalten
+     * ------------------------
+     * Ein einmaliger AnimationTimer läuft im nächsten Puls, also wenn
+     * JavaFX das erste Bild tatsächlich rendert. Muss auf dem FX-Thread
+     * aufgerufen werden.
+     */
+    void markNextFrame(String name) {
+        onNextFrame(() -> mark(name));
+    }
+
+    /** report() im nächsten Puls, nach allen vorher angemeldeten Frame-Marken */
+    void reportOnNextFrame(Logger log) {
+        onNextFrame(() -> report(log));
+    }
+
+    private static void onNextFrame(Runnable action) {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                action.run();
+            }
+        }.start();
+    }
+
+    private synchronized void record(String name, long start) {
+        phases.add(new Phase(name, start, System.nanoTime(), Thread.currentThread().getName()));
+    }
+
+    /**
+     * Aufstellung ausgeben
+     * -------------------
+     * Phasen in Startreihenfolge, mit Gesamtdauer bis zum Aufruf.
+     *
+     * @param log Ziel-Logger (Level INFO)
+     */
+    void report(Logger log) {
+        List<Phase> sorted;
+        synchronized (this) {
+            sorted = new ArrayList<>(phases);
+        }
+        sorted.sort(Comparator.comparingLong(Phase::startNanos));
+
+        StringBuilder out = new StringBuilder("Startup timeline:");
+        for (Phase phase : sorted) {
+            out.append(String.format("%n  %-16s %+6d ms %6d ms  [%s]", phase.name(),
+                    millis(phase.startNanos() - origin),
+                    millis(phase.endNanos() - phase.startNanos()),
+                    phase.thread()));
+        }
+        out.append(String.format("%n  %-16s %+6d ms", "total", millis(System.nanoTime() - origin)));
+        log.info(out.toString());
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example;
+
+import com.example.dialogue.DialogueManager;
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.story.Backlog;
+import com.example.story.StoryGraph;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.AnchorPane;
+
+/**
+ * Controller für alle Story-Szenen
+ * ------------------------------
+ * Ein einziger Presenter ersetzt die früheren sieben Szenen-Controller.
+ * Der Szenengraph aus StoryScene.fxml bleibt dauerhaft bestehen; beim
+ * Szenenwechsel werden nur Eigenschaften getauscht.
+ *
+ * Kernfunktionen:
+ * - Hintergrundbild pro Szene (aus story.graph, über ImageCache)
+ * - Zurück-Navigation zum Ziel aus story.graph
+ * - Dialog-Label für den DialogueManager
+ * - Backlog-Ansicht mit Zurückspulen (Enter oder Doppelklick)
+ * - Freigabe von Hintergrund und Dialog-Label beim Verlassen (onExit)
+ *
+ * UI-Komponenten:
+ * - rootPane: Layout-Container
+ * - backgroundImage: Wechselnder Hintergrund
+ * - topRightButton: Zurück-Navigation
+ * - dialogueLabel: Text-Anzeige
+ * - speakerLabel: Namensschild (nur bei Zeilen mit Sprecher sichtbar)
+ * - backlogList: Virtualisierte Liste der letzten Zeilen
+ *
+ * Neue Szenen brauchen damit nur einen Eintrag in story.graph und einen
+ * Dialog-Block in dialogue.txt, aber keinen neuen Controller.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public class StorySceneController implements SceneLifecycle {
+
+    private static final Logger LOG = Log.get(Category.SCENE);
+
+    /**
+     * UI-Komponenten (FXML-injiziert)
+     * ------------------------------
+     */
+    @FXML private AnchorPane rootPane;        // Layout-Container
+    @FXML private ImageView backgroundImage;  // Hintergrundbild
+    @FXML private Button topRightButton;      // Navigations-Button
+    @FXML private Label dialogueLabel;        // Dialog-Anzeige
+    @FXML private Label speakerLabel;         // Namensschild des Sprechers
+    @FXML private ListView<Backlog.Entry> backlogList; // Backlog
+
+    /** Aktuell dargestellte Szene */
+    private StoryGraph.Node current;
+
+    /**
+     * Komponenten-Initialisierung
+     * -------------------------
+     * FXML-Loader ruft diese Methode einmalig beim Aufbau des Graphen auf.
+     */
+    @FXML
+    private void initialize() {
+        topRightButton.setOnAction(event -> handleBackNavigation());
+        configureBacklog();
+        LOG.debug("StoryScene presenter initialized");
+    }
+
+    /**
+     * Backlog-Konfiguration
+     * -------------------
+     * ListView erzeugt nur Zellen für sichtbare Einträge; die Einträge
+     * selbst entstehen erst beim Lesen aus dem Ringpuffer.
+     */
+    private void configureBacklog() {
+        backlogList.setCellFactory(list -> new BacklogCell());
+        backlogList.setOnKeyPressed(event -> {
+            if (event.getCode() == KeyCode.ENTER) {
+                rewindToSelected();
+                event.consume();
+            } else if (event.getCode() == KeyCode.ESCAPE) {
+                hideBacklog();
+                event.consume();
+            }
+        });
+        backlogList.setOnMouseClicked(event -> {
+            if (event.getButton() == MouseButton.PRIMARY && event.getClickCount() == 2) {
+                rewindToSelected();
+            }
+        });
+    }
+
+    /**
+     * Öffnet bzw. schließt den Backlog
+     * -------------------------------
+     * Der Backlog gehört dem Story-Thread; angezeigt wird eine Kopie des
+     * Ringpuffers, sobald sie vorliegt.
+     */
+    public void toggleBacklog() {
+        if (isBacklogOpen()) {
+            hideBacklog();
+            return;
+        }
+        DialogueManager.getInstance().backlog().thenAcceptAsync(this::showBacklog, Platform::runLater);
+    }
+
+    private void showBacklog(Backlog backlog) {
+        if (backlog.size() == 0 || current == null || isBacklogOpen()) return;
+
+        // Ansicht direkt auf die Ringpuffer-Kopie, Einträge entstehen erst beim Lesen
+        backlogList.setItems(FXCollections.observableList(backlog.view()));
+        backlogList.setVisible(true);
+        backlogList.getSelectionModel().select(backlog.size() - 1);
+        backlogList.scrollTo(backlog.size() - 1);
+        backlogList.requestFocus();
+    }
+
+    public boolean isBacklogOpen() {
+        return backlogList.isVisible();
+    }
+
+    private void hideBacklog() {
+        backlogList.setVisible(false);
+        backlogList.setItems(null);
+        rootPane.requestFocus();
+    }
+
+    /** Spult zum ausgewählten Eintrag zurück */
+    private void rewindToSelected() {
+        int position = backlogList.getSelectionModel().getSelectedIndex();
+        if (position < 0) return;
+        hideBacklog();
+        DialogueManager.getInstance().rewind(position);
+    }
+
+    /** Zelle mit umbrechendem Zeilentext */
+    private static final class BacklogCell extends ListCell<Backlog.Entry> {
+
+        BacklogCell() {
+            setWrapText(true);
+            setPrefWidth(0);
+            setStyle("-fx-text-fill: white; -fx-background-color: transparent;");
+        }
+
+        @Override
+        protected void updateItem(Backlog.Entry entry, boolean empty) {
+            super.updateItem(entry, empty);
+            setText(empty || entry == null ? null : entry.line().plainText());
+        }
+    }
+
+    /**
+     * Szene anzeigen
+     * -------------
+     * Tauscht Hintergrund und Zurück-Ziel. Der Dialog wird danach vom
+     * DialogueManager über das gleiche Label fortgesetzt.
+     *
+     * @param node Story-Knoten aus dem StoryGraph
+     */
+    public void show(StoryGraph.Node node) {
+        current = node;
+        if (isBacklogOpen()) hideBacklog();
+        dialogueLabel.setText("");
+        speakerLabel.setVisible(false);
+        if (node.background() != null) {
+            ImageCache.getInstance().bind(backgroundImage, node.background());
+        }
+        topRightButton.setVisible(node.back() != null);
+        LOG.debug("StoryScene now shows {}", node.id());
+    }
+
+    /**
+     * Szene verlassen
+     * --------------
+     * Gibt Hintergrundbild, Backlog-Ansicht und das Dialog-Label im
+     * DialogueManager frei. Der Graph selbst bleibt für die nächste
+     * Story-Szene erhalten, show() setzt alles wieder.
+     */
+    @Override
+    public void onExit(boolean discarded) {
+        if (isBacklogOpen()) hideBacklog();
+        ImageCache.getInstance().unbind(backgroundImage);
+        dialogueLabel.setText("");
+        speakerLabel.setVisible(false);
+        DialogueManager.getInstance().releaseDialog();
+        current = null;
+        LOG.debug("StoryScene presenter released (discarded={})", discarded);
+    }
+
+    public Label getDialogueLabel() {
+        return dialogueLabel;
+    }
+
+    public Label getSpeakerLabel() {
+        return speakerLabel;
+    }
+
+    /**
+     * Navigations-Handler
+     * -----------------
+     * Wechselt zum Zurück-Ziel der aktuellen Szene
+     */
+    private void handleBackNavigation() {
+        if (current == null || current.back() == null) return;
+        try {
+            LOG.debug("Back button clicked in {} - switching to {}", current.id(), current.back());
+            App.setRoot(current.back());
+        } catch (Exception e) {
+            LOG.error("Error switching scene", e);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.example;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.metrics.Counter;
+import com.example.metrics.LatencyHistogram;
+import com.example.metrics.Metrics;
+
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.scene.CacheHint;
+import javafx.scene.Parent;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+import javafx.stage.Window;
+
+/**
+ * Übergangs-Compositor
+ * -------------------
+ * Führt Szenenwechsel innerhalb einer dauerhaften Szene durch. Statt
+ * stage.setScene() wird nur der Inhalt des Wurzelknotens (host) getauscht.
+ *
+ * Ablauf eines Übergangs:
+ * 1. Schnappschuss des ausgehenden Inhalts, als Overlay darübergelegt
+ * 2. Tausch (swap) und neuer Inhalt in den host; CSS und Layout laufen
+ *    sofort, verdeckt vom Overlay
+ * 3. Schnappschuss des eingehenden Inhalts; der echte Inhalt wird bis
+ *    zum Ende ausgeblendet
+ * 4. Der TransitionEffect animiert nur die beiden Schnappschüsse
+ *    (Cache-Hint SPEED, ein AnimationTimer, kein Layout pro Frame)
+ * 5. Overlays entfernen, Inhalt sichtbar, onFinished
+ *
+ * skip() springt jederzeit zum Ende.
+ *
+ * Schnappschüsse entstehen in Renderauflösung: Skalierung des host in
+ * der Szene (VirtualCanvas) mal Renderskalierung des Fensters. Bei
+ * -Drender.scale=0.5 sind sie damit nur ein Viertel so groß.
+ *
+ * Konfiguration (System-Properties):
+ * - -Dtransition.effect=fade|crossfade|slide|wipe (Standard: fade)
+ * - -Dtransition.ms=800                           Dauer eines Übergangs
+ *
+ * Alle Methoden laufen auf dem JavaFX Application Thread.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class TransitionCompositor {
+
+    private static final Logger LOG = Log.get(Category.TRANSITION);
+
+    /** Dauer vom Schnappschuss bis zum Ende der Animation (Soll: transition.ms) */
+    private static final LatencyHistogram COMPOSITE = Metrics.histogram("scene.composite",
+            "Snapshot, swap and animation of a transition");
+    private static final Counter SKIPPED = Metrics.counter("scene.composite.skipped",
+            "Transitions skipped by input");
+
+    private final StackPane host = new StackPane();
+    private final ImageView outgoing = overlay();
+    private final ImageView incoming = overlay();
+    private final TransitionEffect effect;
+    private final long durationNanos;
+
+    /**
+     * Zustand
+     * ------
+     * content: Aktuell angezeigter Inhalt
+     * outBuffer/inBuffer: Wiederverwendete Schnappschuss-Puffer
+     * firstFrame: Zeitstempel des ersten Animations-Frames (-1 vor dem ersten)
+     * started: Beginn des Übergangs für die Metrik
+     * onFinished: Callback des laufenden Übergangs (null, wenn keiner läuft)
+     */
+    private Parent content;
+    private WritableImage outBuffer;
+    private WritableImage inBuffer;
+    private long firstFrame;
+    private long started;
+    private Runnable onFinished;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            // Ab dem ersten Frame zählen, damit der Schnappschuss-Frame nicht mitläuft
+            if (firstFrame < 0) firstFrame = now;
+            double t = Math.min(1.0, (now - firstFrame) / (double) durationNanos);
+            effect.apply(outgoing, incoming, Interpolator.EASE_BOTH.interpolate(0.0, 1.0, t), host.getWidth());
+            if (t >= 1.0) finish();
+        }
+    };
+
+    /** Compositor mit Effekt und Dauer aus den System-Properties */
+    public TransitionCompositor() {
+        this(TransitionEffect.parse(System.getProperty("transition.effect")),
+                Long.getLong("transition.ms", 800));
+    }
+
+    /**
+     * @param effect Übergangseffekt
+     * @param millis Dauer eines Übergangs in Millisekunden
+     */
+    public TransitionCompositor(TransitionEffect effect, long millis) {
+        this.effect = effect;
+        this.durationNanos = Math.max(1, millis) * 1_000_000L;
+        host.setStyle("-fx-background-color: black;");
+    }
+
+    /** Dauerhafter Wurzelknoten für die Szene */
+    public StackPane getHost() {
+        return host;
+    }
+
+    /** Aktuell angezeigter Inhalt (auch während eines Übergangs schon der neue) */
+    public Parent getContent() {
+        return content;
+    }
+
+    /** true, solange eine Animation läuft */
+    public boolean isRunning() {
+        return onFinished != null;
+    }
+
+    /**
+     * Inhalt ohne Übergang setzen
+     * --------------------------
+     * Für den Start (Platzhalter, Menü). Ein laufender Übergang wird
+     * vorher beendet.
+     *
+     * @param next Neuer Inhalt
+     */
+    public void setContent(Parent next) {
+        if (isRunning()) finish();
+        if (content != null && content != next) host.getChildren().remove(content);
+        if (!host.getChildren().contains(next)) host.getChildren().add(0, next);
+        content = next;
+    }
+
+    /**
+     * Übergang
+     * -------
+     * Ist next der aktuelle Inhalt, läuft nur swap (z.B. neue Story-Szene
+     * im dauerhaften Presenter); sonst ersetzt next den Inhalt.
+     *
+     * @param next       Neuer Inhalt (darf der aktuelle sein)
+     * @param swap       Optional: läuft nach dem ausgehenden Schnappschuss
+     * @param onFinished Callback nach Ende oder skip()
+     */
+    public void transition(Parent next, Runnable swap, Runnable onFinished) {
+        if (isRunning()) finish();
+        long start = System.nanoTime();
+        SnapshotParameters params = snapshotParameters();
+
+        // 1. Ausgehend: letzter sichtbarer Zustand als Bild
+        if (content != null) {
+            outBuffer = content.snapshot(params, reusable(outBuffer));
+            show(outgoing, outBuffer);
+        }
+
+        // 2. Tausch unter dem Overlay, CSS und Layout sofort statt im nächsten Puls
+        if (swap != null) swap.run();
+        if (next != content) {
+            if (content != null) host.getChildren().remove(content);
+            host.getChildren().add(0, next);
+            content = next;
+        }
+        host.applyCss();
+        host.layout();
+
+        // 3. Eingehend: fertig gelayoutet als Bild; der Graph selbst pausiert
+        inBuffer = content.snapshot(params, reusable(inBuffer));
+        show(incoming, inBuffer);
+        content.setVisible(false);
+
+        this.onFinished = onFinished != null ? onFinished : () -> {};
+        this.started = start;
+        firstFrame = -1;
+        effect.apply(outgoing, incoming, 0.0, host.getWidth());
+        timer.start();
+        LOG.debug("Composite transition ({}) to {}", effect, content.getId());
+    }
+
+    /**
+     * Übergang überspringen
+     * --------------------
+     * Zeigt sofort den neuen Inhalt und ruft onFinished auf.
+     *
+     * @return false, wenn kein Übergang lief
+     */
+    public boolean skip() {
+        if (!isRunning()) return false;
+        SKIPPED.increment();
+        LOG.debug("Transition skipped");
+        finish();
+        return true;
+    }
+
+    /** Animation beenden und Overlays aufräumen */
+    private void finish() {
+        timer.stop();
+        host.getChildren().removeAll(outgoing, incoming);
+        for (ImageView view : new ImageView[] { outgoing, incoming }) {
+            view.setImage(null);
+            view.setOpacity(1.0);
+            view.setTranslateX(0);
+            view.setClip(null);
+        }
+        content.setVisible(true);
+        COMPOSITE.recordSince(started);
+
+        Runnable callback = onFinished;
+        onFinished = null;
+        callback.run();
+    }
+
+    /** Bild als oberstes Overlay in Szenengröße zeigen */
+    private void show(ImageView view, WritableImage image) {
+        view.setImage(image);
+        view.setFitWidth(host.getWidth());
+        view.setFitHeight(host.getHeight());
+        if (!host.getChildren().contains(view)) host.getChildren().add(view);
+    }
+
+    /** Schnappschuss in Renderauflösung mit schwarzem Hintergrund */
+    private SnapshotParameters snapshotParameters() {
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.BLACK);
+        params.setTransform(Transform.scale(pixelScaleX(), pixelScaleY()));
+        return params;
+    }
+
+    /** Renderpixel pro logischem Pixel des host (horizontal) */
+    private double pixelScaleX() {
+        Window window = host.getScene() != null ? host.getScene().getWindow() : null;
+        double render = window != null ? window.getRenderScaleX() : 1.0;
+        return render * host.getLocalToSceneTransform().getMxx();
+    }
+
+    /** Renderpixel pro logischem Pixel des host (vertikal) */
+    private double pixelScaleY() {
+        Window window = host.getScene() != null ? host.getScene().getWindow() : null;
+        double render = window != null ? window.getRenderScaleY() : 1.0;
+        return render * host.getLocalToSceneTransform().getMyy();
+    }
+
+    /** Puffer nur bei gleicher Größe wiederverwenden, sonst würde das Bild verzerrt */
+    private WritableImage reusable(WritableImage buffer) {
+        if (buffer == null) return null;
+        double scaleX = pixelScaleX();
+        double scaleY = pixelScaleY();
+        boolean fits = (int) Math.ceil(host.getWidth() * scaleX) == (int) buffer.getWidth()
+                && (int) Math.ceil(host.getHeight() * scaleY) == (int) buffer.getHeight();
+        return fits ? buffer : null;
+    }
+
+    private static ImageView overlay() {
+        ImageView view = new ImageView();
+        view.setManaged(false);
+        view.setSmooth(true);
+        view.setCache(true);
+        view.setCacheHint(CacheHint.SPEED);
+        return view;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example;
+
+import java.util.Locale;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Übergangseffekte
+ * ---------------
+ * Bewegen nur die beiden Schnappschüsse des TransitionCompositor
+ * (Deckkraft, Verschiebung, Clip). Der Szenengraph selbst wird während
+ * des Übergangs weder gerendert noch neu gelayoutet.
+ *
+ * Der eingehende Schnappschuss liegt immer über dem ausgehenden.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public enum TransitionEffect {
+
+    /** Abblenden über Schwarz (bisheriges Verhalten: 500ms aus, 300ms ein) */
+    FADE {
+        private static final double SPLIT = 0.625;
+
+        @Override
+        void apply(ImageView from, ImageView to, double t, double width) {
+            from.setOpacity(t < SPLIT ? 1.0 - t / SPLIT : 0.0);
+            to.setOpacity(t < SPLIT ? 0.0 : (t - SPLIT) / (1.0 - SPLIT));
+        }
+    },
+
+    /** Direkte Überblendung; der alte Schnappschuss bleibt voll sichtbar darunter */
+    CROSSFADE {
+        @Override
+        void apply(ImageView from, ImageView to, double t, double width) {
+            to.setOpacity(t);
+        }
+    },
+
+    /** Neue Szene schiebt die alte nach links hinaus */
+    SLIDE {
+        @Override
+        void apply(ImageView from, ImageView to, double t, double width) {
+            from.setTranslateX(-t * width);
+            to.setTranslateX((1.0 - t) * width);
+        }
+    },
+
+    /** Neue Szene wird von links nach rechts aufgedeckt */
+    WIPE {
+        @Override
+        void apply(ImageView from, ImageView to, double t, double width) {
+            Rectangle clip = to.getClip() instanceof Rectangle existing ? existing : null;
+            if (clip == null) {
+                clip = new Rectangle(0, 0, 0, to.getFitHeight());
+                to.setClip(clip);
+            }
+            clip.setWidth(t * width);
+        }
+    };
+
+    /**
+     * Zustand zum Fortschritt t setzen
+     *
+     * @param from  Schnappschuss der ausgehenden Szene
+     * @param to    Schnappschuss der eingehenden Szene
+     * @param t     Fortschritt 0..1 (bereits mit Easing)
+     * @param width Breite der Szene in logischen Pixeln
+     */
+    abstract void apply(ImageView from, ImageView to, double t, double width);
+
+    /**
+     * Effekt aus Konfiguration lesen
+     *
+     * @param name z.B. "slide" (Groß-/Kleinschreibung egal)
+     * @return Effekt oder FADE bei unbekanntem Namen
+     */
+    static TransitionEffect parse(String name) {
+        if (name == null) return FADE;
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return FADE;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.transform.Scale;
+import javafx.stage.Screen;
+import javafx.stage.Window;
+
+/**
+ * Virtuelle Auflösung
+ * ------------------
+ * Alle Szenen werden für 1920x1080 gestaltet (FXML-Anker, fitWidth usw.).
+ * Der Inhalt behält immer diese logische Größe und wird mit genau einer
+ * Scale-Transformation auf das Fenster gebracht; überstehende Ränder
+ * bleiben schwarz (Letterbox/Pillarbox).
+ *
+ * Interne Renderskalierung:
+ * - -Drender.scale=0.5 rendert die Szene in halber Auflösung und lässt
+ *   das Fenster beim Anzeigen hochskalieren (Window.renderScale)
+ * - Senkt die Füllrate, z.B. bei Überblendungen auf 4K-Bildschirmen
+ *   mit schwacher integrierter Grafik
+ * - Hintergründe und Übergangs-Schnappschüsse werden passend kleiner
+ *   dekodiert bzw. aufgenommen
+ *
+ * Konfiguration (System-Properties):
+ * - -Drender.scale=1.0   Anteil der Ausgabeauflösung (0.25 bis 1.0, Standard 1.0)
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class VirtualCanvas {
+
+    private static final Logger LOG = Log.get(Category.APP);
+
+    /** Gestaltungsauflösung aller Szenen */
+    public static final double WIDTH = 1920;
+    public static final double HEIGHT = 1080;
+
+    private static final double RENDER_SCALE = renderScaleProperty();
+
+    private final Pane root = new Pane();
+    private final Region content;
+    private final Scale scale = new Scale(1, 1, 0, 0);
+
+    /**
+     * @param content Inhalt in Gestaltungsauflösung (z.B. host des TransitionCompositor)
+     */
+    public VirtualCanvas(Region content) {
+        this.content = content;
+        content.setMinSize(WIDTH, HEIGHT);
+        content.setPrefSize(WIDTH, HEIGHT);
+        content.setMaxSize(WIDTH, HEIGHT);
+        content.getTransforms().add(scale);
+        root.setStyle("-fx-background-color: black;");
+        root.getChildren().add(content);
+        root.widthProperty().addListener((obs, old, width) -> fit());
+        root.heightProperty().addListener((obs, old, height) -> fit());
+    }
+
+    /** Wurzelknoten für die Szene (füllt das Fenster) */
+    public Pane getRoot() {
+        return root;
+    }
+
+    /** Aktueller Faktor von logischen zu Fenster-Koordinaten */
+    public double getScale() {
+        return scale.getX();
+    }
+
+    /** Konfigurierte interne Renderskalierung (1.0 = volle Auflösung) */
+    public static double renderScale() {
+        return RENDER_SCALE;
+    }
+
+    /**
+     * Renderskalierung anwenden
+     * ------------------------
+     * Koppelt die Renderskalierung des Fensters an dessen Ausgabeskalierung,
+     * damit sie auch beim Wechsel auf einen anderen Bildschirm stimmt.
+     * Bei 1.0 bleibt das Fenster unverändert.
+     *
+     * @param window Hauptfenster
+     */
+    public void attach(Window window) {
+        if (RENDER_SCALE >= 1.0) return;
+        window.renderScaleXProperty().bind(window.outputScaleXProperty().multiply(RENDER_SCALE));
+        window.renderScaleYProperty().bind(window.outputScaleYProperty().multiply(RENDER_SCALE));
+        LOG.info("Rendering at {}x output resolution", RENDER_SCALE);
+    }
+
+    /**
+     * Bildgröße für Vollbild-Hintergründe
+     * ----------------------------------
+     * Pixel, die die Gestaltungsfläche auf dem Hauptbildschirm tatsächlich
+     * belegt: eingepasste Fläche mal Ausgabe- und Renderskalierung.
+     *
+     * @return Breite und Höhe in Pixeln
+     */
+    public static Dimension2D imageSize() {
+        Screen screen = Screen.getPrimary();
+        Rectangle2D bounds = screen.getBounds();
+        double fit = Math.min(bounds.getWidth() / WIDTH, bounds.getHeight() / HEIGHT);
+        double pixels = fit * Math.max(screen.getOutputScaleX(), screen.getOutputScaleY()) * RENDER_SCALE;
+        return new Dimension2D(Math.ceil(WIDTH * pixels), Math.ceil(HEIGHT * pixels));
+    }
+
+    /** Inhalt einpassen und zentrieren */
+    private void fit() {
+        double factor = Math.min(root.getWidth() / WIDTH, root.getHeight() / HEIGHT);
+        if (!(factor > 0)) return;
+        scale.setX(factor);
+        scale.setY(factor);
+        // Ganze Pixel, damit Text und Bilder nicht an Halbpixeln verschwimmen
+        content.setLayoutX(Math.floor((root.getWidth() - WIDTH * factor) / 2));
+        content.setLayoutY(Math.floor((root.getHeight() - HEIGHT * factor) / 2));
+        LOG.debug("Virtual canvas scaled by {} for {}x{}", factor, root.getWidth(), root.getHeight());
+    }
+
+    private static double renderScaleProperty() {
+        double value;
+        try {
+            value = Double.parseDouble(System.getProperty("render.scale", "1.0"));
+        } catch (NumberFormatException e) {
+            value = 1.0;
+        }
+        return Math.max(0.25, Math.min(1.0, value));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.assets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Archiv vorskalierter Hintergründe
+ * --------------------------------
+ * Liest backgrounds.pak, das AssetPacker zur Build-Zeit erzeugt, und
+ * wählt zu einer Bildschirmgröße die passende Variante.
+ *
+ * Kernfunktionen:
+ * - Memory-Mapping der Datei (bei file:-Ressourcen)
+ * - Index aller Varianten beim Öffnen, Bilddaten erst beim Lesen
+ * - Auswahl der kleinsten Variante, die die Zielgröße abdeckt
+ * - Ohne Sperren von allen Threads lesbar
+ *
+ * Dateiaufbau (Big Endian):
+ *   Header (16 Byte)
+ *     int   MAGIC ("APAK")
+ *     short VERSION
+ *     short reserviert
+ *     int   Anzahl Varianten
+ *     int   Länge des Namen-Blocks
+ *   Varianten-Tabelle (je 28 Byte: Name-Offset, Name-Länge, Breite, Höhe,
+ *                      Daten-Offset (long, ab Dateianfang), Daten-Länge)
+ *   Namen-Block (UTF-8, Ressourcenpfade relativ zu com/example)
+ *   Bilddaten   (kodierte JPEG-/PNG-Dateien)
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class AssetArchive {
+
+    /** Dateinamen im Ressourcen-Verzeichnis com/example */
+    public static final String ARCHIVE = "backgrounds.pak";
+    public static final String MANIFEST = "backgrounds.manifest";
+
+    /** Format-Konstanten (gemeinsam mit AssetPacker) */
+    static final int MAGIC = 0x4150414B;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int ENTRY_BYTES = 28;
+
+    /** Eine Variante im Archiv */
+    public record Variant(String resource, int width, int height, long offset, int length) {}
+
+    private final ByteBuffer data;
+
+    /** Varianten pro Ressource, aufsteigend nach Größe */
+    private final Map<String, List<Variant>> variants;
+
+    private AssetArchive(ByteBuffer data) throws IOException {
+        this.data = data;
+
+        if (data.limit() < HEADER_BYTES || data.getInt(0) != MAGIC) {
+            throw new IOException("Not an asset archive");
+        }
+        if (data.getShort(4) != VERSION) {
+            throw new IOException("Unsupported asset archive version " + data.getShort(4));
+        }
+
+        int count = data.getInt(8);
+        int namesLength = data.getInt(12);
+        int names = HEADER_BYTES + count * ENTRY_BYTES;
+        if (names + namesLength > data.limit()) {
+            throw new IOException("Truncated asset archive");
+        }
+
+        Map<String, List<Variant>> index = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            int entry = HEADER_BYTES + i * ENTRY_BYTES;
+            byte[] name = new byte[data.getInt(entry + 4)];
+            data.get(names + data.getInt(entry), name);
+            Variant variant = new Variant(new String(name, StandardCharsets.UTF_8),
+                    data.getInt(entry + 8), data.getInt(entry + 12),
+                    data.getLong(entry + 16), data.getInt(entry + 24));
+            if (variant.offset() + variant.length() > data.limit()) {
+                throw new IOException("Truncated asset archive");
+            }
+            index.computeIfAbsent(variant.resource(), key -> new ArrayList<>()).add(variant);
+        }
+        for (List<Variant> list : index.values()) {
+            list.sort(Comparator.comparingInt(Variant::width));
+        }
+        variants = Map.copyOf(index);
+    }
+
+    /**
+     * Öffnen einer Ressource
+     * ---------------------
+     * file:-URLs werden per FileChannel gemappt, alles andere
+     * (z.B. Einträge im JAR) wird einmalig in einen Direct-Buffer gelesen.
+     *
+     * @param url Ort von backgrounds.pak
+     * @return Geöffnetes Archiv
+     * @throws IOException Bei Lese- oder Formatfehlern
+     */
+    public static AssetArchive open(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                return new AssetArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid archive location: " + url, e);
+            }
+        }
+
+        try (InputStream stream = url.openStream()) {
+            byte[] bytes = stream.readAllBytes();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return new AssetArchive(buffer);
+        }
+    }
+
+    /**
+     * Variante wählen
+     * --------------
+     * Liefert die kleinste Variante, die in eine Box von width x height
+     * (Seitenverhältnis erhalten) ohne Hochskalieren passt; sonst die größte.
+     *
+     * @param resource Pfad relativ zu com/example (z.B. "Images/end.png")
+     * @param width    Zielbreite in Pixeln
+     * @param height   Zielhöhe in Pixeln
+     * @return Variante oder null, wenn die Ressource nicht im Archiv ist
+     */
+    public Variant select(String resource, int width, int height) {
+        List<Variant> list = variants.get(resource);
+        if (list == null) return null;
+
+        Variant largest = list.get(list.size() - 1);
+        double scale = Math.min((double) width / largest.width(), (double) height / largest.height());
+        int needed = (int) Math.floor(largest.width() * scale);
+        for (Variant variant : list) {
+            if (variant.width() >= needed) return variant;
+        }
+        return largest;
+    }
+
+    /** Kodierte Bilddaten einer Variante als Stream (ohne Kopie) */
+    public InputStream open(Variant variant) {
+        ByteBuffer slice = data.slice((int) variant.offset(), variant.length());
+        return new InputStream() {
+            @Override
+            public int read() {
+                return slice.hasRemaining() ? slice.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                if (!slice.hasRemaining()) return -1;
+                int count = Math.min(length, slice.remaining());
+                slice.get(buffer, offset, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return slice.remaining();
+            }
+        };
+    }
+}
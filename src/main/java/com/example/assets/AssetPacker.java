@@ -0,0 +1,215 @@
+package com.example.assets;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Asset-Packer
+ * -----------
+ * Build-Werkzeug, das die Hintergründe in Images/ in mehreren
+ * Auflösungen vorskaliert und in ein indiziertes Archiv packt.
+ *
+ * Kernfunktionen:
+ * - Varianten für 720p, 1080p, 1440p und 4K (VARIANT_HEIGHTS), jeweils
+ *   nur bis zur Quellauflösung (kein Hochskalieren); die Quellgröße
+ *   selbst ist immer als Variante enthalten
+ * - Deckende Bilder (auch PNGs mit ungenutztem Alphakanal) werden als
+ *   JPEG kodiert, alle anderen als PNG
+ * - Nur Bilder ab MIN_HEIGHT Pixel Höhe (Buttons bleiben außen vor)
+ * - backgrounds.pak im Format von AssetArchive plus lesbares
+ *   backgrounds.manifest (eine Zeile pro Variante)
+ *
+ * Aufruf (im Maven-Build an process-classes gebunden):
+ *   java com.example.assets.AssetPacker Images/ target/classes/com/example
+ *
+ * Bewusst ohne JavaFX-Abhängigkeiten (nur java.desktop), damit der
+ * Packer im Build ohne Grafik-Toolkit läuft.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class AssetPacker {
+
+    /** Zielhöhen der Varianten (720p, 1080p, 1440p, 4K) */
+    static final int[] VARIANT_HEIGHTS = { 720, 1080, 1440, 2160 };
+
+    /** Kleinere Bilder werden nicht gepackt */
+    static final int MIN_HEIGHT = VARIANT_HEIGHTS[0];
+
+    private static final float JPEG_QUALITY = 0.9f;
+
+    /** Kodierte Variante eines Bildes */
+    private record Packed(String resource, int width, int height, byte[] data) {}
+
+    private AssetPacker() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: AssetPacker <Images dir> <output dir>");
+            System.exit(2);
+        }
+        System.setProperty("java.awt.headless", "true");
+        Path images = Path.of(args[0]);
+        Path target = Path.of(args[1]);
+        String prefix = images.getFileName() + "/";
+
+        List<Path> sources;
+        try (Stream<Path> files = Files.list(images)) {
+            sources = files.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        List<Packed> packed = new ArrayList<>();
+        for (Path source : sources) {
+            byte[] original = Files.readAllBytes(source);
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(original));
+            if (image == null || image.getHeight() < MIN_HEIGHT) continue;
+            packed.addAll(variants(prefix + source.getFileName(), image, original));
+        }
+
+        Files.createDirectories(target);
+        Files.write(target.resolve(AssetArchive.ARCHIVE), pack(packed));
+        Files.writeString(target.resolve(AssetArchive.MANIFEST), manifest(packed), StandardCharsets.UTF_8);
+        System.out.println("AssetPacker: " + packed.size() + " variants -> " + target.resolve(AssetArchive.ARCHIVE));
+    }
+
+    /**
+     * Varianten eines Bildes
+     * ---------------------
+     * Kleinste zuerst. In Quellgröße wird die Originaldatei übernommen,
+     * wenn die Neukodierung nicht kleiner ist.
+     */
+    private static List<Packed> variants(String resource, BufferedImage image, byte[] original)
+            throws IOException {
+        List<Integer> heights = new ArrayList<>();
+        for (int height : VARIANT_HEIGHTS) {
+            if (height < image.getHeight()) heights.add(height);
+        }
+        heights.add(image.getHeight());
+
+        boolean opaque = isOpaque(image);
+        List<Packed> variants = new ArrayList<>();
+        for (int height : heights) {
+            int width = Math.round((float) image.getWidth() * height / image.getHeight());
+            BufferedImage scaled = scale(image, width, height, opaque);
+            byte[] data = opaque ? jpeg(scaled) : png(scaled);
+            if (height == image.getHeight() && data.length >= original.length) {
+                data = original;
+            }
+            variants.add(new Packed(resource, width, height, data));
+        }
+        return variants;
+    }
+
+    /** true, wenn das Bild keinen oder nur einen voll deckenden Alphakanal hat */
+    private static boolean isOpaque(BufferedImage image) {
+        Raster alpha = image.getAlphaRaster();
+        if (alpha == null) return true;
+        int[] row = new int[alpha.getWidth()];
+        for (int y = 0; y < alpha.getHeight(); y++) {
+            alpha.getSamples(0, y, alpha.getWidth(), 1, 0, row);
+            for (int sample : row) {
+                if (sample != 255) return false;
+            }
+        }
+        return true;
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height, boolean opaque) {
+        BufferedImage scaled = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(image, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private static byte[] jpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+
+    /** Schreibt Header, Eintrags-Tabelle, Namen und Bilddaten */
+    static byte[] pack(List<Packed> packed) {
+        ByteArrayOutputStream names = new ByteArrayOutputStream();
+        int[][] nameEntries = new int[packed.size()][];
+        for (int i = 0; i < packed.size(); i++) {
+            byte[] name = packed.get(i).resource().getBytes(StandardCharsets.UTF_8);
+            nameEntries[i] = new int[] { names.size(), name.length };
+            names.writeBytes(name);
+        }
+
+        long dataStart = AssetArchive.HEADER_BYTES
+                + (long) packed.size() * AssetArchive.ENTRY_BYTES + names.size();
+        ByteBuffer head = ByteBuffer.allocate((int) dataStart);
+        head.putInt(AssetArchive.MAGIC)
+            .putShort(AssetArchive.VERSION)
+            .putShort((short) 0)
+            .putInt(packed.size())
+            .putInt(names.size());
+
+        long offset = dataStart;
+        for (int i = 0; i < packed.size(); i++) {
+            Packed variant = packed.get(i);
+            head.putInt(nameEntries[i][0]).putInt(nameEntries[i][1])
+                .putInt(variant.width()).putInt(variant.height())
+                .putLong(offset).putInt(variant.data().length);
+            offset += variant.data().length;
+        }
+        head.put(names.toByteArray());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) offset);
+        out.writeBytes(head.array());
+        for (Packed variant : packed) {
+            out.writeBytes(variant.data());
+        }
+        return out.toByteArray();
+    }
+
+    /** Eine Zeile pro Variante: Ressource, Größe, Bytes */
+    private static String manifest(List<Packed> packed) {
+        StringBuilder out = new StringBuilder("# resource\twidth x height\tbytes\n");
+        for (Packed variant : packed) {
+            out.append(variant.resource()).append('\t')
+               .append(variant.width()).append('x').append(variant.height()).append('\t')
+               .append(variant.data().length).append('\n');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.dialogue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import com.example.story.DialogueLine;
+import com.example.story.StoryScript;
+
+/**
+ * Kompiliertes Dialog-Skript
+ * ------------------------
+ * Liest das Binärformat, das DialogueCompiler zur Build-Zeit erzeugt.
+ *
+ * Kernfunktionen:
+ * - Memory-Mapping der Datei (bei file:-Ressourcen)
+ * - Prüfsummen- und Versionsprüfung beim Öffnen
+ * - Dekodierung der Zeilen erst beim Betreten einer Szene
+ * - Sprecher-Namen aus einem deduplizierten String-Pool
+ * - Als StoryScript ohne Sperren von vielen Sessions gleichzeitig lesbar
+ *
+ * Dateiaufbau (Big Endian):
+ *   Header (32 Byte)
+ *     int   MAGIC ("DLGB")
+ *     short VERSION
+ *     short reserviert
+ *     int   Anzahl Szenen
+ *     int   Anzahl Sprecher
+ *     int   Anzahl Zeilen
+ *     int   Länge des Text-Blocks
+ *     long  CRC32 über alles nach dem Header
+ *   Szenen-Tabelle   (je 16 Byte: Name-Offset, Name-Länge, erste Zeile, Zeilenanzahl)
+ *   Sprecher-Tabelle (je 8 Byte: Offset, Länge)
+ *   Zeilen-Tabelle   (je 12 Byte: Sprecher-Id oder -1, Text-Offset, Text-Länge)
+ *   Text-Block       (UTF-8, alle Offsets relativ zum Blockanfang)
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class CompiledDialogue implements StoryScript {
+
+    /** Format-Konstanten (gemeinsam mit DialogueCompiler) */
+    static final int MAGIC = 0x444C4742;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int SCENE_ENTRY_BYTES = 16;
+    static final int SPEAKER_ENTRY_BYTES = 8;
+    static final int LINE_ENTRY_BYTES = 12;
+    static final int NO_SPEAKER = -1;
+
+    private final ByteBuffer data;
+    private final int sceneTable;
+    private final int speakerTable;
+    private final int lineTable;
+    private final int blob;
+    private final Map<String, Integer> sceneIndex;
+    private final String[] speakers;
+
+    private CompiledDialogue(ByteBuffer data) throws IOException {
+        this.data = data;
+
+        if (data.limit() < HEADER_BYTES || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a compiled dialogue file");
+        }
+        if (data.getShort(4) != VERSION) {
+            throw new IOException("Unsupported dialogue format version " + data.getShort(4));
+        }
+
+        int sceneCount = data.getInt(8);
+        int speakerCount = data.getInt(12);
+        int lineCount = data.getInt(16);
+        int blobLength = data.getInt(20);
+        long checksum = data.getLong(24);
+
+        sceneTable = HEADER_BYTES;
+        speakerTable = sceneTable + sceneCount * SCENE_ENTRY_BYTES;
+        lineTable = speakerTable + speakerCount * SPEAKER_ENTRY_BYTES;
+        blob = lineTable + lineCount * LINE_ENTRY_BYTES;
+        if (blob + blobLength != data.limit()) {
+            throw new IOException("Truncated dialogue file");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(data.slice(HEADER_BYTES, data.limit() - HEADER_BYTES));
+        if (crc.getValue() != checksum) {
+            throw new IOException("Dialogue checksum mismatch");
+        }
+
+        // Nur die Szenennamen werden sofort dekodiert
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < sceneCount; i++) {
+            int entry = sceneTable + i * SCENE_ENTRY_BYTES;
+            index.put(decode(data.getInt(entry), data.getInt(entry + 4)), i);
+        }
+        sceneIndex = Collections.unmodifiableMap(index);
+        speakers = new String[speakerCount];
+    }
+
+    /**
+     * Öffnen einer Ressource
+     * ---------------------
+     * file:-URLs werden per FileChannel gemappt, alles andere
+     * (z.B. Einträge im JAR) wird einmalig in einen Direct-Buffer gelesen.
+     *
+     * @param url Ort der kompilierten Datei
+     * @return Geöffnetes Skript
+     * @throws IOException Bei Lese- oder Formatfehlern
+     */
+    public static CompiledDialogue open(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                return new CompiledDialogue(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid dialogue location: " + url, e);
+            }
+        }
+
+        try (InputStream stream = url.openStream()) {
+            byte[] bytes = stream.readAllBytes();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return new CompiledDialogue(buffer);
+        }
+    }
+
+    /** Namen aller Szenen im Skript */
+    @Override
+    public Set<String> scenes() {
+        return sceneIndex.keySet();
+    }
+
+    public boolean hasScene(String scene) {
+        return sceneIndex.containsKey(scene);
+    }
+
+    /** Zeilen einer Szene, bei jedem Aufruf frisch dekodiert */
+    @Override
+    public List<DialogueLine> lines(String scene) {
+        return hasScene(scene) ? Collections.unmodifiableList(decodeScene(scene)) : null;
+    }
+
+    /** Anzahl der Zeilen einer Szene, ohne sie zu dekodieren */
+    public int lineCount(String scene) {
+        Integer index = sceneIndex.get(scene);
+        return index == null ? 0 : data.getInt(sceneTable + index * SCENE_ENTRY_BYTES + 12);
+    }
+
+    /**
+     * Szenen-Dekodierung
+     * -----------------
+     * Dekodiert alle Zeilen einer Szene in DialogueLine-Datensätze.
+     * Sprecher kommen als geteilte Instanz aus dem Pool, Inline-Befehle
+     * werden hier einmal pro Szene zerlegt.
+     *
+     * @param scene Name der Szene
+     * @return Zeilen der Szene oder eine leere Liste
+     */
+    public List<DialogueLine> decodeScene(String scene) {
+        Integer index = sceneIndex.get(scene);
+        if (index == null) return List.of();
+
+        int entry = sceneTable + index * SCENE_ENTRY_BYTES;
+        int firstLine = data.getInt(entry + 8);
+        int count = data.getInt(entry + 12);
+
+        List<DialogueLine> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int line = lineTable + (firstLine + i) * LINE_ENTRY_BYTES;
+            int speakerId = data.getInt(line);
+            String text = decode(data.getInt(line + 4), data.getInt(line + 8));
+            lines.add(DialogueLine.withBody(speakerId == NO_SPEAKER ? null : speaker(speakerId), text));
+        }
+        return lines;
+    }
+
+    /**
+     * Sprecher aus dem Pool, einmalig dekodiert.
+     * Bewusst ohne Sperre: Im schlimmsten Fall dekodieren zwei Threads
+     * denselben (unveränderlichen) Namen.
+     */
+    private String speaker(int id) {
+        String name = speakers[id];
+        if (name == null) {
+            int entry = speakerTable + id * SPEAKER_ENTRY_BYTES;
+            name = decode(data.getInt(entry), data.getInt(entry + 4));
+            speakers[id] = name;
+        }
+        return name;
+    }
+
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        data.get(blob + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
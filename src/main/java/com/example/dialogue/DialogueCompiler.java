@@ -0,0 +1,188 @@
+package com.example.dialogue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.example.story.DialogueLine;
+import com.example.story.StoryScript;
+
+/**
+ * Dialog-Compiler
+ * --------------
+ * Build-Werkzeug, das dialogue.txt in das Binärformat von
+ * CompiledDialogue übersetzt.
+ *
+ * Kernfunktionen:
+ * - Gleiche Blockgrammatik wie StoryScript.parse() (StoryScript.splitBlocks)
+ * - Szenen-Tabelle mit Zeilen-Offsets
+ * - Deduplizierte Sprecher-Namen ("(Liu Bei)   \"...\"")
+ * - CRC32-Prüfsumme über den Inhalt
+ *
+ * Aufruf:
+ *   java com.example.dialogue.DialogueCompiler dialogue.txt dialogue.bin
+ *   java com.example.dialogue.DialogueCompiler <quellordner> <zielordner>
+ * Mit Ordnern wird jedes Sprachpaket (dialogue.txt, dialogue_en.txt, ...)
+ * einzeln übersetzt; so ist es im Maven-Build an process-classes gebunden.
+ *
+ * Bewusst ohne JavaFX-Abhängigkeiten, damit der Compiler im Build ohne
+ * Grafik-Toolkit läuft.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class DialogueCompiler {
+
+    /** Geparste Szene: Name plus Zeilen */
+    private record Scene(String name, List<Line> lines) {}
+
+    /** Geparste Zeile: optionaler Sprecher plus Text */
+    private record Line(String speaker, String text) {}
+
+    private DialogueCompiler() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: DialogueCompiler <dialogue.txt> <dialogue.bin>");
+            System.err.println("       DialogueCompiler <source dir> <target dir>");
+            System.exit(2);
+        }
+        Path source = Path.of(args[0]);
+        Path target = Path.of(args[1]);
+        if (!Files.isDirectory(source)) {
+            compile(source, target);
+            return;
+        }
+
+        List<Path> packs;
+        try (Stream<Path> files = Files.list(source)) {
+            packs = files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith("dialogue") && name.endsWith(".txt");
+            }).sorted().toList();
+        }
+        for (Path pack : packs) {
+            String name = pack.getFileName().toString();
+            compile(pack, target.resolve(name.substring(0, name.length() - ".txt".length()) + ".bin"));
+        }
+    }
+
+    /** Übersetzt ein Sprachpaket */
+    private static void compile(Path source, Path target) throws IOException {
+        List<Scene> scenes = parse(Files.readString(source, StandardCharsets.UTF_8));
+        byte[] compiled = compile(scenes);
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Files.write(target, compiled);
+        System.out.println("DialogueCompiler: " + scenes.size() + " scenes, "
+                + compiled.length + " bytes -> " + target);
+    }
+
+    /**
+     * Skript-Parser
+     * ------------
+     * Blockgrammatik aus StoryScript.splitBlocks(), damit das Binärformat
+     * dieselben Szenen enthält wie parse() und der ScriptReloader.
+     */
+    static List<Scene> parse(String text) {
+        List<Scene> scenes = new ArrayList<>();
+        for (Map.Entry<String, String> block : StoryScript.splitBlocks(text).entrySet()) {
+            List<Line> lines = new ArrayList<>();
+            for (String line : StoryScript.blockLines(block.getValue())) {
+                lines.add(splitSpeaker(line));
+            }
+            if (!lines.isEmpty()) {
+                scenes.add(new Scene(block.getKey(), lines));
+            }
+        }
+        return scenes;
+    }
+
+    /**
+     * Sprecher-Erkennung
+     * -----------------
+     * Gleiche Regel wie DialogueLine.parse(); Inline-Befehle bleiben im
+     * Text und werden beim Dekodieren der Szene zerlegt.
+     */
+    private static Line splitSpeaker(String line) {
+        String[] parts = DialogueLine.splitSpeaker(line);
+        return new Line(parts[0], parts[1]);
+    }
+
+    /** Schreibt Header, Tabellen und Text-Block */
+    static byte[] compile(List<Scene> scenes) {
+        ByteArrayOutputStream blob = new ByteArrayOutputStream();
+        Map<String, int[]> blobStrings = new HashMap<>();
+        Map<String, Integer> speakerIds = new HashMap<>();
+        List<int[]> speakerEntries = new ArrayList<>();
+
+        int lineCount = scenes.stream().mapToInt(scene -> scene.lines().size()).sum();
+        int bodyBytes = scenes.size() * CompiledDialogue.SCENE_ENTRY_BYTES
+                + lineCount * CompiledDialogue.LINE_ENTRY_BYTES;
+
+        // Erst Text-Block und Sprecher-Pool aufbauen, dann Tabellen schreiben
+        List<int[]> sceneEntries = new ArrayList<>();
+        List<int[]> lineEntries = new ArrayList<>();
+        for (Scene scene : scenes) {
+            int[] name = append(blob, blobStrings, scene.name());
+            sceneEntries.add(new int[] { name[0], name[1], lineEntries.size(), scene.lines().size() });
+            for (Line line : scene.lines()) {
+                int speakerId = CompiledDialogue.NO_SPEAKER;
+                if (line.speaker() != null) {
+                    speakerId = speakerIds.computeIfAbsent(line.speaker(), speaker -> {
+                        speakerEntries.add(append(blob, blobStrings, speaker));
+                        return speakerEntries.size() - 1;
+                    });
+                }
+                int[] text = append(blob, blobStrings, line.text());
+                lineEntries.add(new int[] { speakerId, text[0], text[1] });
+            }
+        }
+        bodyBytes += speakerEntries.size() * CompiledDialogue.SPEAKER_ENTRY_BYTES + blob.size();
+
+        ByteBuffer out = ByteBuffer.allocate(CompiledDialogue.HEADER_BYTES + bodyBytes);
+        out.position(CompiledDialogue.HEADER_BYTES);
+        for (int[] entry : sceneEntries) {
+            out.putInt(entry[0]).putInt(entry[1]).putInt(entry[2]).putInt(entry[3]);
+        }
+        for (int[] entry : speakerEntries) {
+            out.putInt(entry[0]).putInt(entry[1]);
+        }
+        for (int[] entry : lineEntries) {
+            out.putInt(entry[0]).putInt(entry[1]).putInt(entry[2]);
+        }
+        out.put(blob.toByteArray());
+
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), CompiledDialogue.HEADER_BYTES, bodyBytes);
+
+        out.putInt(0, CompiledDialogue.MAGIC)
+           .putShort(4, CompiledDialogue.VERSION)
+           .putShort(6, (short) 0)
+           .putInt(8, sceneEntries.size())
+           .putInt(12, speakerEntries.size())
+           .putInt(16, lineEntries.size())
+           .putInt(20, blob.size())
+           .putLong(24, crc.getValue());
+        return out.array();
+    }
+
+    /** Hängt einen String an den Text-Block an (identische Strings nur einmal) */
+    private static int[] append(ByteArrayOutputStream blob, Map<String, int[]> known, String value) {
+        return known.computeIfAbsent(value, text -> {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            int offset = blob.size();
+            blob.writeBytes(bytes);
+            return new int[] { offset, bytes.length };
+        });
+    }
+}
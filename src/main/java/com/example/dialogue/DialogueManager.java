@@ -1,16 +1,35 @@
 package com.example.dialogue;
 
-import java.io.BufferedReader;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import com.example.App; 
+import com.example.App;
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.metrics.LatencyHistogram;
+import com.example.metrics.Metrics;
+import com.example.save.SaveGame;
+import com.example.save.SaveStore;
+import com.example.story.Backlog;
+import com.example.story.ScriptIndex;
+import com.example.story.StoryActor;
+import com.example.story.StoryGraph;
+import com.example.story.StoryOutput;
+import com.example.story.StoryScript;
+import com.example.story.StorySession;
+import com.example.story.StoryState;
 
+import javafx.application.Platform;
 import javafx.scene.control.Label;
 
 /**
@@ -18,150 +37,458 @@ import javafx.scene.control.Label;
  * ----------------------
  * Zentrale Komponente für die Verwaltung und Anzeige von Dialogtexten
  * in der Visual Novel Engine.
- * 
+ *
  * Kernfunktionen:
  * - Szenenbasierte Dialog-Organisation
  * - Dynamisches Nachladen von Texten
- * - Automatische Szenenübergänge
- * - Thread-sicheres Singleton-Pattern
- * 
+ * - Automatische Szenenübergänge nach story.graph
+ * - Speichern und Laden über den SaveStore
+ * - Zurückspulen zu Backlog-Einträgen
+ * - Volltextsuche im Skript (ScriptIndex, im Hintergrund aufgebaut) und im Backlog
+ * - Sprachwechsel zur Laufzeit (DialoguePacks, nur die aktive Sprache im Speicher)
+ * - Singleton (beim Laden der Klasse angelegt)
+ *
+ * Die eigentliche Story-Logik liegt in der kopflosen StorySession
+ * (com.example.story). Der DialogueManager ist die JavaFX-Anbindung:
+ * Er hält die Session des Spielers und zeigt sie über LabelOutput an.
+ *
+ * Threads:
+ * - Die Session (samt Skript, Graph, Fortsetzungspunkt) gehört dem
+ *   StoryActor "story"; alle Änderungen sind dort eingereihte Befehle
+ *   und laufen in Eingangsreihenfolge
+ * - Die Anzeige (Label, TypewriterReveal, LabelOutput) gehört dem
+ *   FX-Thread; die Session erreicht sie nur über StoryOutput.on()
+ * - Lesende (Speichern, Menü, Backlog-Ansicht) erhalten unveränderliche
+ *   Schnappschüsse (getState(), backlog())
+ *
  * Dateiformat für Dialoge:
  * [SzenenName]
  * Dialog-Text Zeile 1
  * Dialog-Text Zeile 2
  * [End]
- * 
+ *
  * @author Type Soul Productions
  * @version 1.0
  */
 public class DialogueManager {
-    
+
+    private static final Logger LOG = Log.get(Category.DIALOGUE);
+
+    private static final LatencyHistogram ADVANCE = Metrics.histogram("dialogue.advance",
+            "Completing a reveal on the FX thread or a session step on the story thread");
+
+    /** Baut den Suchindex nach jedem Skriptwechsel im Hintergrund */
+    private static final ExecutorService INDEXER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "script-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * Interne Datenstrukturen
      * ----------------------
-     * sceneDialogues: Speichert Dialogtexte pro Szene
-     * currentScene: Aktuelle aktive Szene
-     * currentIndex: Position im aktuellen Dialog
+     * Story-Thread (nur in Befehlen des actor):
+     * script: Geladenes Skript (Text oder kompiliert) der aktiven Sprache
+     * session: Spielstand des Spielers (Szene, Zeile, Flags)
+     * resumeScene/resumeIndex: Fortsetzungspunkt (Spielstand oder Backlog),
+     *                          der beim Betreten seiner Szene greift
+     * revision: Zähler für StoryState
+     *
+     * FX-Thread:
      * dialogueLabel: UI-Element für Textanzeige
+     * typewriter: Zeichenweises Einblenden der aktuellen Zeile
+     * output: Anzeige der Session auf dem Label
+     * advancePending: Ein Schritt ist eingereiht, seine Anzeige steht noch aus
+     *
+     * Geteilt (volatile):
+     * state: Zuletzt veröffentlichter Schnappschuss der Session
+     * index: Suchindex des aktuellen Skripts (wird im Hintergrund gebaut)
+     * packs/locale: Sprachpakete und aktive Sprache (liest auch der DevReloader)
+     * storyGraph: Szenenabfolge aus story.graph
      */
-    private Map<String, List<String>> sceneDialogues = new HashMap<>();
-    private String currentScene;
-    private int currentIndex = 0;
+    private StoryScript script = StoryScript.empty();
+    private StorySession session;
+    private String resumeScene;
+    private int resumeIndex;
+    private long revision;
+
     private Label dialogueLabel;
-    private static DialogueManager instance;
+    private final TypewriterReveal typewriter = new TypewriterReveal();
+    private final LabelOutput output = new LabelOutput(typewriter);
+    private final StoryOutput fxOutput = StoryOutput.on(Platform::runLater, output);
+    private boolean advancePending;
+
+    private volatile StoryState state = StoryState.EMPTY;
+    private volatile CompletableFuture<ScriptIndex> index = CompletableFuture.completedFuture(null);
+    private volatile DialoguePacks packs;
+    private volatile Locale locale = DialoguePacks.DEFAULT_LOCALE;
+    private volatile StoryGraph storyGraph;
+
+    private final StoryActor actor = new StoryActor("story", this::publish);
+
+    private static final DialogueManager instance = new DialogueManager();
 
     /** Private Konstruktor für Singleton-Pattern */
-    private DialogueManager() {}
+    private DialogueManager() {
+        actor.post(() -> rebuildSession(null));
+    }
 
-    /**
-     * Singleton-Zugriffsmethode
-     * Thread-sicher durch lazy initialization
-     */
+    /** Singleton-Zugriffsmethode */
     public static DialogueManager getInstance() {
-        if (instance == null) {
-            instance = new DialogueManager();
-        }
         return instance;
     }
 
     /**
      * Dialog-Initialisierung
      * ---------------------
-     * Richtet neue Dialog-Anzeige ein und startet Text
-     * 
+     * Richtet neue Dialog-Anzeige ein. Der Text startet mit setCurrentScene().
+     *
      * @param label JavaFX Label für Textanzeige
      */
     public void initializeDialog(Label label) {
+        initializeDialog(label, null);
+    }
+
+    /**
+     * Dialog-Initialisierung mit Namensschild
+     *
+     * @param label        JavaFX Label für Textanzeige
+     * @param speakerLabel Label für den Sprecher oder null (Sprecher dann vor dem Text)
+     */
+    public void initializeDialog(Label label, Label speakerLabel) {
+        typewriter.stop();
+        advancePending = false;
         this.dialogueLabel = label;
-        currentIndex = 0;
-        showNextLine();
+        output.setLabel(label);
+        output.setSpeakerLabel(speakerLabel);
+    }
+
+    /**
+     * Dialog-Anzeige freigeben
+     * -----------------------
+     * Beim Verlassen der Story-Szene: stoppt den Effekt und vergisst das
+     * Label, damit der DialogueManager keinen Szenengraphen festhält.
+     * Die Session (Szene, Zeile, Flags) bleibt erhalten.
+     */
+    public void releaseDialog() {
+        typewriter.stop();
+        dialogueLabel = null;
+        output.setLabel(null);
+        output.setSpeakerLabel(null);
+    }
+
+    /**
+     * Story-Graph setzen
+     * -----------------
+     * Legt die Szenenabfolge fest, nach der die Session wechselt.
+     *
+     * @param graph Geladener Story-Graph
+     */
+    public void setStoryGraph(StoryGraph graph) {
+        this.storyGraph = graph;
+        actor.post(() -> rebuildSession(graph));
+    }
+
+    public StoryGraph getStoryGraph() {
+        return storyGraph;
+    }
+
+    /** Setzt oder entfernt ein Story-Flag für bedingte Kanten */
+    public void setFlag(String flag, boolean value) {
+        actor.post(() -> session.setFlag(flag, value));
+    }
+
+    /** Flags aus dem letzten Schnappschuss */
+    public Set<String> getFlags() {
+        return state.flags();
+    }
+
+    /** Zuletzt veröffentlichter Zustand der Session (von jedem Thread lesbar) */
+    public StoryState getState() {
+        return state;
+    }
+
+    /**
+     * Backlog lesen
+     * ------------
+     * Kopie aus dem Story-Thread, z.B. für die Backlog-Ansicht.
+     *
+     * @return Future mit einer unabhängigen Kopie
+     */
+    public CompletableFuture<Backlog> backlog() {
+        return actor.ask(() -> session.getBacklog().copy());
+    }
+
+    /** Schreibmaschinen-Effekt (z.B. für Geschwindigkeitsänderungen) */
+    public TypewriterReveal getTypewriter() {
+        return typewriter;
     }
 
     /**
      * Dialog-Datei Laden
      * -----------------
-     * Liest Dialogtexte aus externer Datei:
-     * 1. Erkennt Szenenmarker [SzenenName]
-     * 2. Sammelt zugehörige Dialogzeilen
-     * 3. Speichert in sceneDialogues Map
-     * 
+     * Liest Dialogtexte aus externer Datei (Format wie dialogue.txt).
+     *
      * @param filename Pfad zur Dialog-Datei
      * @throws IOException Bei Dateizugriffsproblemen
      */
     public void loadDialogue(String filename) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new java.io.FileReader(filename))) {
-            String line;
-            String currentScene = null;
-            List<String> currentDialogue = new ArrayList<>();
-
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
-
-                if (line.startsWith("[") && line.endsWith("]")) {
-                    // If we were processing a scene, save it
-                    if (currentScene != null && !currentDialogue.isEmpty()) {
-                        sceneDialogues.put(currentScene, new ArrayList<>(currentDialogue));
-                    }
-                    // Start new scene
-                    currentScene = line.substring(1, line.length() - 1);
-                    currentDialogue.clear();
-                } else if (!line.isEmpty() && currentScene != null) {
-                    currentDialogue.add(line);
-                }
-            }
-            // Save the last scene
-            if (currentScene != null && !currentDialogue.isEmpty()) {
-                sceneDialogues.put(currentScene, new ArrayList<>(currentDialogue));
-            }
+        try (InputStream stream = new FileInputStream(filename)) {
+            loadDialogueFromStream(stream);
         }
     }
 
     /**
      * Stream-basiertes Dialog-Laden
      * ---------------------------
-     * Wie loadDialogue(), aber für InputStream:
-     * - Löscht existierende Dialoge
+     * Parst das Skript über StoryScript.parse():
+     * - Ersetzt existierende Dialoge
      * - Überspringt Leerzeilen und Kommentare
      * - Gibt Debug-Informationen aus
-     * 
+     *
      * @param stream InputStream mit Dialogdaten
      * @throws IOException Bei Stream-Problemen
      */
     public void loadDialogueFromStream(InputStream stream) throws IOException {
-        sceneDialogues.clear();
-        BufferedReader reader = new BufferedReader(new InputStreamReader(stream));
-        String line;
-        String currentScene = null;
-        List<String> currentDialogue = new ArrayList<>();
-
-        while ((line = reader.readLine()) != null) {
-            line = line.trim();
-            if (line.isEmpty() || line.startsWith("//")) continue;
-
-            if (line.startsWith("[") && line.endsWith("]")) {
-                if (line.equals("[End]")) {
-                    // Save current scene's dialogue when we hit [End]
-                    if (currentScene != null && !currentDialogue.isEmpty()) {
-                        sceneDialogues.put(currentScene, new ArrayList<>(currentDialogue));
-                        currentDialogue.clear();
-                    }
+        loadScript(StoryScript.parse(stream));
+    }
+
+    /**
+     * Kompiliertes Skript verwenden
+     * ---------------------------
+     * Ersetzt den Text-Parser durch das Binärformat von DialogueCompiler.
+     * Zeilen werden erst beim Betreten einer Szene dekodiert; dekodiert
+     * bleibt immer nur die aktuelle Szene der Session.
+     *
+     * @param dialogue Geöffnetes, gemapptes Skript
+     */
+    public void loadCompiledDialogue(CompiledDialogue dialogue) {
+        loadScript(dialogue);
+    }
+
+    /**
+     * Geladenes Skript übernehmen
+     * --------------------------
+     * Für Skripte, die bereits auf einem Worker-Thread gelesen wurden
+     * (z.B. im Startvorgang). Die Session wird im Story-Thread neu
+     * aufgebaut. Kompilierte Skripte werden dabei nicht dekodiert.
+     *
+     * @param loaded Text- oder kompiliertes Skript
+     */
+    public void loadScript(StoryScript loaded) {
+        StoryGraph graph = storyGraph;
+        actor.post(() -> {
+            script = loaded;
+            rebuildSession(graph);
+        });
+        rebuildIndex(loaded);
+
+        if (LOG.isDebugEnabled()) {
+            for (String scene : loaded.scenes()) {
+                if (loaded instanceof CompiledDialogue compiled) {
+                    LOG.debug("Compiled scene {} with {} lines", scene, compiled.lineCount(scene));
                 } else {
-                    // Start new scene
-                    currentScene = line.substring(1, line.length() - 1);
-                    currentDialogue.clear();
+                    LOG.debug("Loaded scene {} with {} lines", scene, loaded.lines(scene).size());
                 }
-            } else if (currentScene != null) {
-                currentDialogue.add(line);
             }
         }
+    }
+
+    /**
+     * Skript im laufenden Spiel austauschen
+     * ------------------------------------
+     * Die Session behält Szene, Position und Flags. Hat sich die aktuelle
+     * Szene geändert, wird die angezeigte Zeile neu dargestellt.
+     * Auf dem FX-Thread aufrufen.
+     *
+     * @param replacement Neues Skript
+     * @param changed     Geänderte Szenen
+     */
+    public void replaceScript(StoryScript replacement, Set<String> changed) {
+        replace(replacement, changed);
+    }
+
+    /**
+     * Austausch im Story-Thread
+     *
+     * @param changed Geänderte Szenen; null = die aktuelle Szene der Session
+     */
+    private void replace(StoryScript replacement, Set<String> changed) {
+        boolean displayed = dialogueLabel != null;
+        actor.post(() -> {
+            script = replacement;
+            session.replaceScript(replacement);
+            String scene = session.getScene();
+            boolean affected = changed == null ? scene != null : changed.contains(scene);
+            if (displayed && affected) {
+                session.reshow();
+            }
+        });
+        rebuildIndex(replacement);
+    }
+
+    /**
+     * Fortsetzungspunkt setzen
+     * -----------------------
+     * Beim nächsten Betreten der Szene geht es an dieser Zeile weiter
+     * statt am Anfang.
+     *
+     * @param scene     Szene
+     * @param lineIndex Zeile ab 0
+     */
+    public void resumeAt(String scene, int lineIndex) {
+        actor.post(() -> {
+            resumeScene = scene;
+            resumeIndex = lineIndex;
+        });
+    }
+
+    /**
+     * Sprachpakete setzen
+     * ------------------
+     * Beim Start, zusammen mit dem bereits geladenen Skript der Sprache.
+     *
+     * @param packs  Quelle der Sprachpakete
+     * @param active Sprache des aktuellen Skripts
+     */
+    public void setDialoguePacks(DialoguePacks packs, Locale active) {
+        this.packs = packs;
+        this.locale = active;
+    }
+
+    /** Aktive Sprache */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Sprache wechseln
+     * ---------------
+     * Öffnet das Paket im Hintergrund und tauscht auf dem FX-Thread das
+     * Skript. Das alte Paket wird danach nicht mehr referenziert; es ist
+     * immer nur eine Sprache im Speicher.
+     *
+     * Neu aufgelöst wird nur die aktuelle Szene (die angezeigte Zeile
+     * erscheint in der neuen Sprache); die nächste Szene liest ihre Zeilen
+     * ohnehin erst beim Betreten. Position, Flags und Backlog bleiben.
+     *
+     * @param target Neue Sprache
+     * @return Future, das nach dem Austausch abgeschlossen wird
+     */
+    public CompletableFuture<Void> switchLocale(Locale target) {
+        if (packs == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("No dialogue packs configured"));
+        }
+        if (target.equals(locale)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        LOG.info("Switching dialogue from {} to {}", locale, target);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return packs.open(target);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }).thenAcceptAsync(pack -> {
+            locale = target;
+            replace(pack, null);
+        }, Platform::runLater);
+    }
+
+    /**
+     * Skript durchsuchen
+     * -----------------
+     * Wartet, falls der Index des aktuellen Skripts noch gebaut wird.
+     * Syntax der Anfrage siehe ScriptIndex.Query.
+     *
+     * @param query Suchanfrage (Wörter, wort*, "Phrase")
+     * @param limit Höchstzahl Treffer
+     * @return Future mit den Treffern in Skript-Reihenfolge
+     */
+    public CompletableFuture<List<ScriptIndex.Hit>> search(String query, int limit) {
+        return index.thenApply(built -> built == null ? List.of() : built.search(query, limit));
+    }
+
+    /**
+     * Backlog durchsuchen
+     * ------------------
+     * Gleiche Syntax wie search(), aber nur über die angezeigten Zeilen.
+     * Durchsucht wird im Story-Thread.
+     *
+     * @param query Suchanfrage
+     * @return Future mit Backlog-Positionen (für rewind), ältester Eintrag zuerst
+     */
+    public CompletableFuture<List<Integer>> searchBacklog(String query) {
+        ScriptIndex.Query parsed = ScriptIndex.Query.parse(query);
+        return actor.ask(() -> session.getBacklog().find(parsed::matches));
+    }
+
+    /**
+     * Zu einer Zeile springen
+     * ----------------------
+     * Z.B. zu einem Suchtreffer. In derselben Szene wird nur der
+     * Zeilen-Index gesetzt; sonst wechselt die Szene und setzt dort fort.
+     * Auf dem FX-Thread aufrufen.
+     *
+     * @param scene     Szene
+     * @param lineIndex Zeile ab 0
+     */
+    public void jumpTo(String scene, int lineIndex) {
+        typewriter.stop();
+        actor.post(() -> jump(scene, lineIndex));
+    }
+
+    /** Sprung im Story-Thread; ein Szenenwechsel läuft über den FX-Thread */
+    private void jump(String scene, int lineIndex) {
+        LOG.debug("Jumping to {} line {}", scene, lineIndex);
+        if (scene.equals(session.getScene())) {
+            session.seek(lineIndex);
+            session.advance();
+            return;
+        }
+        resumeScene = scene;
+        resumeIndex = lineIndex;
+        Platform.runLater(() -> {
+            try {
+                App.setRoot(scene);
+            } catch (IOException e) {
+                LOG.error("Scene switch to {} failed", scene, e);
+            }
+        });
+    }
+
+    /** Veröffentlicht den Zustand der Session (Story-Thread, nach jedem Befehl) */
+    private void publish() {
+        if (session != null) {
+            state = session.snapshot(++revision);
+        }
+    }
+
+    /** Baut den Suchindex eines Skripts im Hintergrund neu */
+    private void rebuildIndex(StoryScript indexed) {
+        index = CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            ScriptIndex built = ScriptIndex.build(indexed);
+            LOG.info("Script index built: {} lines, {} terms in {} ms", built.lineCount(), built.termCount(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return built;
+        }, INDEXER);
+    }
 
-        // Debug output
-        System.out.println("\n=== Dialogue Loading Debug ===");
-        for (String scene : sceneDialogues.keySet()) {
-            System.out.println("Scene: " + scene);
-            System.out.println("Lines: " + sceneDialogues.get(scene).size());
+    /**
+     * Session neu aufbauen
+     * -------------------
+     * Nach Wechsel von Skript oder Graph; Flags, Backlog (und damit das
+     * Zurückspulen), Szene und Position bleiben erhalten. Nur im Story-Thread.
+     *
+     * @param graph Story-Graph zum Zeitpunkt des Befehls
+     */
+    private void rebuildSession(StoryGraph graph) {
+        StorySession previous = session;
+        session = new StorySession(script, graph, fxOutput);
+        if (previous != null) {
+            session.continueFrom(previous);
         }
-        System.out.println("===========================\n");
     }
 
     /**
@@ -169,114 +496,148 @@ public class DialogueManager {
      * -----------------
      * Wechselt zur angegebenen Szene:
      * 1. Validiert Szenen-Existenz
-     * 2. Setzt Zähler zurück
+     * 2. Setzt Zähler zurück (bzw. auf die Zeile eines geladenen Spielstands)
      * 3. Zeigt ersten Dialog
      * 4. Logging für Debug
-     * 
+     *
+     * Auf dem FX-Thread aufrufen; Schritte 1-3 laufen im Story-Thread.
+     *
      * @param scene Name der Zielszene
      */
     public void setCurrentScene(String scene) {
-        System.out.println("\n=== Scene Change Debug ===");
-        System.out.println("Changing from " + currentScene + " to " + scene);
-        
-        this.currentScene = scene;
-        this.currentIndex = 0;
-        
-        if (!sceneDialogues.containsKey(scene)) {
-            System.out.println("WARNING: Scene marker [" + scene + "] not found in dialogue!");
-            return;
-        }
-        
-        // Reset dialogue label and show first line
-        if (dialogueLabel != null) {
-            showNextLine(); // Show the first line immediately
-        }
-        
-        System.out.println("=========================\n");
+        typewriter.stop();
+        boolean displayed = dialogueLabel != null;
+        if (displayed) advancePending = true;
+        actor.post(() -> {
+            if (session.enter(scene)) {
+                // Spielstand oder Backlog: an der gemerkten Zeile fortsetzen
+                if (scene.equals(resumeScene)) {
+                    session.seek(resumeIndex);
+                    resumeScene = null;
+                }
+
+                // Show the first line immediately
+                if (displayed) step();
+            }
+            if (displayed) Platform.runLater(() -> advancePending = false);
+        });
     }
 
     /**
      * Dialog-Progression
      * ----------------
      * Zeigt nächste Dialogzeile oder initiiert Szenenwechsel:
-     * - Prüft Verfügbarkeit weiterer Zeilen
-     * - Aktualisiert UI
-     * - Handled Szenenende
-     * - Ausführliches Logging
+     * - Läuft noch der Schreibmaschinen-Effekt, wird nur die Zeile vervollständigt
+     * - Sonst ein Schritt der StorySession im Story-Thread; Anzeige,
+     *   Vorladen und Szenenwechsel übernimmt LabelOutput auf dem FX-Thread
+     * - Solange die Anzeige eines Schritts aussteht, werden weitere
+     *   Eingaben verworfen (keine übersprungenen Zeilen)
+     * - Logging über Log (Kategorie DIALOGUE), ohne Kosten wenn deaktiviert
+     * - Dauer im Histogramm dialogue.advance
+     *
+     * Auf dem FX-Thread aufrufen (Eingabe).
      */
     public void showNextLine() {
-        if (dialogueLabel == null || currentScene == null) return;
+        if (dialogueLabel == null || advancePending || state.scene() == null) return;
 
-        List<String> currentDialogue = sceneDialogues.get(currentScene);
-        if (currentDialogue == null || currentDialogue.isEmpty()) {
-            System.out.println("WARNING: No dialogue found for scene " + currentScene);
+        if (typewriter.isRevealing()) {
+            long start = System.nanoTime();
+            typewriter.complete();
+            ADVANCE.recordSince(start);
             return;
         }
+        advancePending = true;
+        actor.post(() -> {
+            step();
+            // Nach der Ausgabe des Schritts (gleiche FX-Warteschlange)
+            Platform.runLater(() -> advancePending = false);
+        });
+    }
+
+    /** Ein Schritt der Session im Story-Thread */
+    private void step() {
+        long start = System.nanoTime();
+        session.advance();
+        ADVANCE.recordSince(start);
+    }
 
-        System.out.println("\n=== DialogueManager Debug ===");
-        System.out.println("Current Scene: " + currentScene);
-        System.out.println("Current Index: " + currentIndex);
-        System.out.println("Total Lines: " + currentDialogue.size());
-
-        if (currentIndex < currentDialogue.size()) {
-            String line = currentDialogue.get(currentIndex);
-            dialogueLabel.setText(line);
-            currentIndex++;
-            System.out.println("Showing dialogue: " + line);
-        } else {
-            // Handle end of dialogue and scene transitions
-            dialogueLabel.setText("");
-            handleSceneTransition();
+    /**
+     * Speichern
+     * --------
+     * Nimmt den zuletzt veröffentlichten Stand auf; geschrieben wird im
+     * Hintergrund.
+     *
+     * @param slot Nummer des Speicherplatzes
+     * @return Future mit dem Pfad der Slot-Datei
+     */
+    public CompletableFuture<Path> save(int slot) {
+        StoryState current = state;
+        if (current.scene() == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("No active scene to save"));
         }
-        
-        System.out.println("===========================\n");
+        SaveGame game = new SaveGame(slot, current.scene(), current.shownIndex(),
+                current.flags(), System.currentTimeMillis());
+        LOG.info("Saving slot {} at {} line {}", slot, game.scene(), game.lineIndex());
+        return SaveStore.getInstance().save(game);
     }
 
     /**
-     * Szenen-Übergangslogik
-     * --------------------
-     * Verwaltet Übergänge zwischen Szenen:
-     * - Definiert Ablaufsequenz
-     * - Lädt neue FXML
-     * - Aktualisiert DialogManager
-     * - Fehlerbehandlung
+     * Slot laden
+     * ---------
+     * Liest den Slot (eine kleine Datei) und setzt das Spiel dort fort.
+     *
+     * @param slot Nummer des Speicherplatzes
+     * @throws IOException Wenn der Slot fehlt, beschädigt ist oder der Szenenwechsel scheitert
      */
-    private void handleSceneTransition() {
-        try {
-            switch (currentScene) {
-                case "FirstScene":
-                    App.setRoot("SecondScene");
-                    setCurrentScene("SecondScene");
-                    break;
-                case "SecondScene":
-                    App.setRoot("ThirdScene");
-                    setCurrentScene("ThirdScene");
-                    break;
-                case "ThirdScene":
-                    App.setRoot("FourthScene");
-                    setCurrentScene("FourthScene");
-                    break;
-                case "FourthScene":
-                    App.setRoot("FifthScene");
-                    setCurrentScene("FifthScene");
-                    break;
-                case "FifthScene":
-                    App.setRoot("SixthScene");
-                    setCurrentScene("SixthScene");
-                    break;
-                case "SixthScene":
-                    App.setRoot("SeventhScene");
-                    setCurrentScene("SeventhScene");
-                    break;    
-                case "SeventhScene":
-                    App.setRoot("menu");
-                    setCurrentScene("menu");
-                    break;
-                default:
-                    System.out.println("No next scene defined for: " + currentScene);
+    public void load(int slot) throws IOException {
+        restore(SaveStore.getInstance().load(slot));
+    }
+
+    /**
+     * Laden
+     * ----
+     * Übernimmt die Flags, wechselt zur gespeicherten Szene und setzt
+     * den Dialog dort an der gespeicherten Zeile fort. Flags und
+     * Fortsetzungspunkt sind vor dem Betreten der Szene gesetzt, da
+     * Befehle in Eingangsreihenfolge laufen.
+     *
+     * @param game Geladener Spielstand
+     * @throws IOException Bei Problemen beim Szenenwechsel
+     */
+    public void restore(SaveGame game) throws IOException {
+        actor.post(() -> {
+            for (String flag : Set.copyOf(session.getFlags())) {
+                session.setFlag(flag, false);
             }
-        } catch (IOException e) {
-            System.out.println("Error during scene transition: " + e.getMessage());
-        }
+            for (String flag : game.flags()) {
+                session.setFlag(flag, true);
+            }
+            resumeScene = game.scene();
+            resumeIndex = game.lineIndex();
+        });
+        LOG.info("Restoring slot {} at {} line {}", game.slot(), game.scene(), game.lineIndex());
+        App.setRoot(game.scene());
+    }
+
+    /**
+     * Zurückspulen
+     * -----------
+     * Springt zu einem Backlog-Eintrag. Neuere Einträge werden verworfen,
+     * die Zeile selbst wird beim Anzeigen wieder angehängt.
+     * In derselben Szene wird nur der Zeilen-Index gesetzt; sonst wechselt
+     * die Szene über den dauerhaften Presenter (Skript und gecachte
+     * Bilder bleiben erhalten).
+     *
+     * @param position Backlog-Position (0 = ältester Eintrag)
+     */
+    public void rewind(int position) {
+        typewriter.stop();
+        actor.post(() -> {
+            Backlog backlog = session.getBacklog();
+            Backlog.Entry entry = backlog.get(position);
+            backlog.truncate(position);
+            LOG.debug("Rewinding to {} line {}", entry.scene(), entry.index());
+            jump(entry.scene(), entry.index());
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,195 @@
+package com.example.dialogue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.story.DialogueLine;
+import com.example.story.StoryScript;
+
+/**
+ * Sprachpakete für Dialoge
+ * -----------------------
+ * Findet und öffnet das Dialog-Skript einer Sprache. Alle Pakete
+ * verwenden dieselben Szenen-Ids; geladen wird immer nur das aktive.
+ *
+ * Dateinamen (wie bei ResourceBundle, neben App):
+ * - dialogue.txt / dialogue.bin:               Standardsprache (Deutsch)
+ * - dialogue_en.txt / dialogue_en.bin:         Sprache
+ * - dialogue_pt_BR.txt / dialogue_pt_BR.bin:   Sprache und Land
+ *
+ * Gesucht wird von spezifisch nach allgemein, jeweils kompiliert (.bin,
+ * Szenen werden erst beim Betreten dekodiert) vor Text (.txt). Fehlt
+ * eine Szene im Paket, wird sie aus dem Standardpaket gelesen; dieses
+ * wird erst beim ersten solchen Zugriff geöffnet.
+ *
+ * Konfiguration (System-Properties):
+ * - -Ddialogue.locale=en   Sprache beim Start (Standard: Systemsprache,
+ *                          falls ein Paket dafür existiert)
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class DialoguePacks {
+
+    private static final Logger LOG = Log.get(Category.DIALOGUE);
+
+    /** Sprache von dialogue.txt */
+    public static final Locale DEFAULT_LOCALE = Locale.GERMAN;
+
+    private static final String BASE_NAME = "dialogue";
+
+    private final Function<String, URL> resources;
+    private final boolean preferSource;
+
+    /**
+     * @param resources    Löst Namen relativ zu com/example auf (z.B. App::resource)
+     * @param preferSource true: .txt vor .bin (Entwicklungsmodus, .bin kann veraltet sein)
+     */
+    public DialoguePacks(Function<String, URL> resources, boolean preferSource) {
+        this.resources = resources;
+        this.preferSource = preferSource;
+    }
+
+    /**
+     * Sprache beim Start
+     * -----------------
+     * -Ddialogue.locale, sonst die Systemsprache. Ob es dafür ein Paket
+     * gibt, entscheidet erst open().
+     */
+    public static Locale configuredLocale() {
+        String tag = System.getProperty("dialogue.locale");
+        return tag == null || tag.isBlank() ? Locale.getDefault() : Locale.forLanguageTag(tag.replace('_', '-'));
+    }
+
+    /**
+     * Dateinamen eines Pakets
+     * ----------------------
+     * Von spezifisch nach allgemein, ohne Endung (z.B. dialogue_pt_BR,
+     * dialogue_pt). Für die Standardsprache nur "dialogue".
+     *
+     * @param locale Sprache
+     * @return Kandidaten in Suchreihenfolge
+     */
+    public static List<String> baseNames(Locale locale) {
+        List<String> names = new ArrayList<>(3);
+        String language = locale.getLanguage();
+        if (!language.isEmpty() && !language.equals(DEFAULT_LOCALE.getLanguage())) {
+            if (!locale.getCountry().isEmpty()) {
+                names.add(BASE_NAME + "_" + language + "_" + locale.getCountry());
+            }
+            names.add(BASE_NAME + "_" + language);
+        }
+        names.add(BASE_NAME);
+        return names;
+    }
+
+    /** true, wenn es für die Sprache ein eigenes Paket gibt (nicht nur das Standardpaket) */
+    public boolean isAvailable(Locale locale) {
+        List<String> names = baseNames(locale);
+        for (String name : names.subList(0, names.size() - 1)) {
+            if (resources.apply(name + ".bin") != null || resources.apply(name + ".txt") != null) {
+                return true;
+            }
+        }
+        return locale.getLanguage().equals(DEFAULT_LOCALE.getLanguage());
+    }
+
+    /**
+     * Paket öffnen
+     * -----------
+     * Darf auf einem Worker-Thread laufen.
+     *
+     * @param locale Gewünschte Sprache
+     * @return Skript der Sprache, bei fehlendem Paket das Standardpaket
+     * @throws IOException Wenn auch das Standardpaket fehlt oder unlesbar ist
+     */
+    public StoryScript open(Locale locale) throws IOException {
+        for (String name : baseNames(locale)) {
+            StoryScript script = openPack(name);
+            if (script == null) continue;
+            if (name.equals(BASE_NAME)) {
+                if (!locale.getLanguage().equals(DEFAULT_LOCALE.getLanguage())) {
+                    LOG.info("No dialogue pack for {}, using {}", locale, DEFAULT_LOCALE);
+                }
+                return script;
+            }
+            LOG.info("Dialogue pack {} loaded for {}", name, locale);
+            return new WithFallback(script, this);
+        }
+        throw new IOException(BASE_NAME + ".txt nicht gefunden!");
+    }
+
+    /** Ein Paket, kompiliert oder als Text, oder null wenn es fehlt */
+    private StoryScript openPack(String name) throws IOException {
+        String[] order = preferSource ? new String[] { ".txt", ".bin" } : new String[] { ".bin", ".txt" };
+        for (String extension : order) {
+            URL url = resources.apply(name + extension);
+            if (url == null) continue;
+            if (extension.equals(".bin")) {
+                return CompiledDialogue.open(url);
+            }
+            try (InputStream stream = url.openStream()) {
+                return StoryScript.parse(stream);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sprachpaket mit Rückfall
+     * -----------------------
+     * Szenen, die (noch) nicht übersetzt sind, kommen aus dem
+     * Standardpaket. Das Öffnen ist idempotent, ein doppeltes Öffnen
+     * durch zwei Threads daher unkritisch.
+     */
+    private static final class WithFallback implements StoryScript {
+
+        private final StoryScript pack;
+        private final DialoguePacks packs;
+        private volatile StoryScript fallback;
+
+        WithFallback(StoryScript pack, DialoguePacks packs) {
+            this.pack = pack;
+            this.packs = packs;
+        }
+
+        @Override
+        public List<DialogueLine> lines(String scene) {
+            List<DialogueLine> lines = pack.lines(scene);
+            if (lines != null || scene == null) return lines;
+            StoryScript defaults = fallback();
+            if (defaults == null) return null;
+            lines = defaults.lines(scene);
+            if (lines != null) LOG.debug("Scene {} not translated, using {}", scene, DEFAULT_LOCALE);
+            return lines;
+        }
+
+        @Override
+        public Set<String> scenes() {
+            return pack.scenes();
+        }
+
+        private StoryScript fallback() {
+            StoryScript defaults = fallback;
+            if (defaults == null) {
+                try {
+                    defaults = packs.openPack(BASE_NAME);
+                } catch (IOException e) {
+                    LOG.warn("Default dialogue pack not readable: {}", e.getMessage());
+                    return null;
+                }
+                fallback = defaults;
+            }
+            return defaults;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.dialogue;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.example.App;
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.story.DialogueLine;
+import com.example.story.StoryOutput;
+
+import javafx.scene.control.Label;
+
+/**
+ * JavaFX-Ausgabe einer StorySession
+ * --------------------------------
+ * Zeigt Zeilen mit dem Schreibmaschinen-Effekt auf dem Dialog-Label an
+ * (Sprecher im Namensschild, falls vorhanden), lädt Folgeszenen vor und startet am Szenenende den Übergang über
+ * App.setRoot. Die Session betritt die neue Szene erst nach dem
+ * Übergang (App.initializeSceneDialog).
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class LabelOutput implements StoryOutput {
+
+    private static final Logger LOG = Log.get(Category.DIALOGUE);
+
+    private final TypewriterReveal typewriter;
+    private Label label;
+    private Label speakerLabel;
+
+    public LabelOutput(TypewriterReveal typewriter) {
+        this.typewriter = typewriter;
+    }
+
+    /** Ziel-Label (ohne Label werden Zeilen verworfen) */
+    public void setLabel(Label label) {
+        this.label = label;
+    }
+
+    /** Namensschild (optional; ohne Schild steht der Sprecher vor dem Text, ohne Pausen) */
+    public void setSpeakerLabel(Label speakerLabel) {
+        this.speakerLabel = speakerLabel;
+    }
+
+    @Override
+    public void showLine(String scene, int index, DialogueLine line) {
+        if (label == null) return;
+        if (speakerLabel == null) {
+            typewriter.show(label, line.plainText());
+            return;
+        }
+        speakerLabel.setText(line.speaker());
+        speakerLabel.setVisible(line.speaker() != null);
+        typewriter.show(label, line);
+    }
+
+    @Override
+    public void sceneFinished(String scene, String next) {
+        typewriter.stop();
+        if (label != null) {
+            label.setText("");
+        }
+        if (speakerLabel != null) {
+            speakerLabel.setVisible(false);
+        }
+        if (next == null) return;
+        try {
+            App.setRoot(next);
+        } catch (IOException e) {
+            LOG.error("Error during scene transition", e);
+        }
+    }
+
+    @Override
+    public void upcoming(List<String> scenes) {
+        for (String next : scenes) {
+            App.prefetch(next);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.dialogue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+import com.example.story.DialogueLine;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+import javafx.scene.text.Text;
+
+/**
+ * Schreibmaschinen-Effekt
+ * ----------------------
+ * Blendet eine Dialogzeile Zeichen für Zeichen ein.
+ *
+ * Prinzip:
+ * - Der komplette Text wird einmal gesetzt und gelayoutet
+ * - Pro Zeichen werden Endkante und Zeilenbereich einmalig vorberechnet
+ * - Ein einziger AnimationTimer verschiebt pro Frame nur die Eckpunkte
+ *   einer Clip-Form über dem Text-Knoten des Labels
+ *
+ * Pro Frame entstehen weder Teilstrings noch KeyFrames; die Clip-Form
+ * (ein Polygon mit sechs Punkten) wird beim Start einmalig angelegt.
+ *
+ * Pausen:
+ * - {wait ms} in einer Zeile hält den Effekt an der Textposition an
+ *   (Offsets und Dauern stehen bereits in der DialogueLine)
+ *
+ * Bedienung:
+ * - complete(): Zeile sofort vollständig anzeigen (nächster Tastendruck,
+ *   überspringt auch offene Pausen)
+ * - setCharsPerSecond(): Geschwindigkeit zur Laufzeit ändern
+ *
+ * Konfiguration:
+ * - -Dtypewriter.cps: Zeichen pro Sekunde (Standard 40, 0 = sofort)
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class TypewriterReveal {
+
+    private static final Logger LOG = Log.get(Category.DIALOGUE);
+
+    private static final double DEFAULT_CPS =
+            Double.parseDouble(System.getProperty("typewriter.cps", "40"));
+
+    /**
+     * Zustand
+     * ------
+     * text: Interner Text-Knoten des Ziel-Labels
+     * shown: Zeichenkette, deren Layout vorberechnet wurde
+     * endX/rowTop/rowBottom: Endkante und Zeilenbereich pro Zeichen
+     * length: Anzahl gültiger Einträge in den Arrays
+     * revealed: Bereits eingeblendete Zeichen (mit Nachkommaanteil)
+     * visible: Zuletzt in den Clip übernommene Zeichenzahl
+     * waitAt/waitNanos/waits: Pausen der Zeile (Textposition, Dauer)
+     * nextWait: Nächste noch nicht abgelaufene Pause
+     * holdUntil: Ende der laufenden Pause (0 = keine)
+     */
+    private Text text;
+    private String shown;
+    private double[] endX = new double[256];
+    private double[] rowTop = new double[256];
+    private double[] rowBottom = new double[256];
+    private int length;
+    private double revealed;
+    private int visible;
+    private int[] waitAt = new int[4];
+    private long[] waitNanos = new long[4];
+    private int waits;
+    private int nextWait;
+    private long holdUntil;
+    private double charsPerSecond = DEFAULT_CPS;
+    private long lastFrame;
+    private boolean running;
+
+    /** Clip-Polygon: volle Zeilen oberhalb plus angefangene Zeile */
+    private final MoveTo topLeft = new MoveTo();
+    private final LineTo topRight = new LineTo();
+    private final LineTo rowRight = new LineTo();
+    private final LineTo caretTop = new LineTo();
+    private final LineTo caretBottom = new LineTo();
+    private final LineTo bottomLeft = new LineTo();
+    private final Path clip = new Path(topLeft, topRight, rowRight, caretTop, caretBottom, bottomLeft, new ClosePath());
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            tick(now);
+        }
+    };
+
+    /**
+     * Zeile einblenden
+     * ---------------
+     * Setzt den Text, erzwingt das Layout und startet den Effekt.
+     *
+     * @param target Dialog-Label
+     * @param line   Anzuzeigende Zeile
+     */
+    public void show(Label target, String line) {
+        stop();
+        waits = 0;
+        reveal(target, line);
+    }
+
+    /**
+     * Zerlegte Zeile einblenden
+     * ------------------------
+     * Wie show(Label, String) mit dem Text der Zeile; {wait}-Befehle
+     * werden zu Pausen an ihrer Textposition.
+     *
+     * @param target Dialog-Label (ohne Sprecher)
+     * @param line   Zeile aus dem Skript
+     */
+    public void show(Label target, DialogueLine line) {
+        stop();
+        collectWaits(line.commands());
+        reveal(target, line.text());
+    }
+
+    private void reveal(Label target, String line) {
+        target.setText(line);
+        if (charsPerSecond <= 0 || line.isEmpty()) return;
+
+        // Layout sofort berechnen, damit der Text-Knoten den neuen Inhalt hat
+        target.applyCss();
+        target.layout();
+        text = findText(target);
+        if (text == null) {
+            LOG.warn("No text node in label, showing line without reveal");
+            return;
+        }
+
+        shown = text.getText();
+        measure(text, shown);
+        revealed = 0;
+        visible = -1;
+        lastFrame = 0;
+        nextWait = 0;
+        holdUntil = 0;
+        text.setClip(clip);
+        applyClip(0);
+        running = true;
+        timer.start();
+    }
+
+    /** Zeigt die aktuelle Zeile sofort vollständig */
+    public void complete() {
+        if (!running) return;
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Reveal completed early at {}/{}", visible, length);
+        }
+        stop();
+    }
+
+    /** Beendet den Effekt und entfernt den Clip */
+    public void stop() {
+        timer.stop();
+        running = false;
+        if (text != null) {
+            text.setClip(null);
+            text = null;
+        }
+        shown = null;
+    }
+
+    /** true, solange eine Zeile eingeblendet wird */
+    public boolean isRevealing() {
+        return running;
+    }
+
+    /**
+     * Geschwindigkeit setzen
+     * ---------------------
+     * Wirkt ab dem nächsten Frame, auch während einer laufenden Zeile.
+     *
+     * @param cps Zeichen pro Sekunde; 0 oder kleiner zeigt Zeilen sofort
+     */
+    public void setCharsPerSecond(double cps) {
+        charsPerSecond = cps;
+        if (cps <= 0) complete();
+    }
+
+    public double getCharsPerSecond() {
+        return charsPerSecond;
+    }
+
+    /** Frame-Verarbeitung: nur Arithmetik und Eigenschafts-Updates */
+    private void tick(long now) {
+        // Text wurde von außen ersetzt (z.B. Szenenwechsel)
+        if (text.getText() != shown) {
+            stop();
+            return;
+        }
+        if (holdUntil != 0) {
+            if (now < holdUntil) return;
+            holdUntil = 0;
+            nextWait++;
+        } else if (lastFrame != 0) {
+            revealed += (now - lastFrame) / 1_000_000_000.0 * charsPerSecond;
+        }
+        lastFrame = now;
+
+        // Pause erreicht: bis zur Textposition zeigen, dann anhalten
+        if (nextWait < waits && revealed >= waitAt[nextWait]) {
+            revealed = waitAt[nextWait];
+            holdUntil = now + waitNanos[nextWait];
+        }
+
+        int count = (int) Math.min(length, revealed);
+        if (count != visible) {
+            applyClip(count);
+        }
+        if (count >= length) {
+            stop();
+        }
+    }
+
+    /** Pausen der Zeile in die Arrays übernehmen (ohne Allokation im Normalfall) */
+    private void collectWaits(List<DialogueLine.Command> commands) {
+        waits = 0;
+        for (DialogueLine.Command command : commands) {
+            if (!command.name().equals("wait")) continue;
+            long millis;
+            try {
+                millis = Long.parseLong(command.argument());
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid wait duration '{}'", command.argument());
+                continue;
+            }
+            if (waits == waitAt.length) {
+                waitAt = Arrays.copyOf(waitAt, waits * 2);
+                waitNanos = Arrays.copyOf(waitNanos, waits * 2);
+            }
+            waitAt[waits] = command.offset();
+            waitNanos[waits] = millis * 1_000_000L;
+            waits++;
+        }
+    }
+
+    /**
+     * Clip anpassen
+     * ------------
+     * Verschiebt die Eckpunkte so, dass alle Zeilen oberhalb des
+     * letzten sichtbaren Zeichens und dessen Zeile bis zur Endkante frei sind.
+     */
+    private void applyClip(int count) {
+        visible = count;
+        double minX = text.getLayoutBounds().getMinX();
+        double minY = text.getLayoutBounds().getMinY();
+        double maxX = text.getLayoutBounds().getMaxX();
+
+        double top = minY;
+        double bottom = minY;
+        double x = minX;
+        if (count > 0) {
+            int last = count - 1;
+            top = rowTop[last];
+            bottom = rowBottom[last];
+            x = endX[last];
+        }
+
+        topLeft.setX(minX);
+        topLeft.setY(minY);
+        topRight.setX(maxX);
+        topRight.setY(minY);
+        rowRight.setX(maxX);
+        rowRight.setY(top);
+        caretTop.setX(x);
+        caretTop.setY(top);
+        caretBottom.setX(x);
+        caretBottom.setY(bottom);
+        bottomLeft.setX(minX);
+        bottomLeft.setY(bottom);
+    }
+
+    /**
+     * Layout vorberechnen
+     * ------------------
+     * Einmal pro Zeile: Endkante und Zeilenbereich jedes Zeichens aus
+     * der Caret-Position hinter dem Zeichen.
+     */
+    private void measure(Text node, String content) {
+        length = content.length();
+        if (endX.length < length) {
+            int capacity = Math.max(length, endX.length * 2);
+            endX = new double[capacity];
+            rowTop = new double[capacity];
+            rowBottom = new double[capacity];
+        }
+        for (int i = 0; i < length; i++) {
+            PathElement[] caret = node.caretShape(i, false);
+            if (caret.length >= 2 && caret[0] instanceof MoveTo move && caret[1] instanceof LineTo line) {
+                endX[i] = move.getX();
+                rowTop[i] = Math.min(move.getY(), line.getY());
+                rowBottom[i] = Math.max(move.getY(), line.getY());
+            } else if (i > 0) {
+                endX[i] = endX[i - 1];
+                rowTop[i] = rowTop[i - 1];
+                rowBottom[i] = rowBottom[i - 1];
+            }
+        }
+    }
+
+    /** Sucht den internen Text-Knoten des Label-Skins */
+    private static Text findText(Label target) {
+        for (Node child : target.getChildrenUnmodifiable()) {
+            if (child instanceof Text found) return found;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.log;
+
+/**
+ * Log-Kategorien
+ * -------------
+ * Subsysteme der Engine, deren Level einzeln einstellbar sind
+ * (z.B. -Dlog.level.input=TRACE).
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public enum Category {
+    APP,        // Start, Fenster, Lebenszyklus
+    INPUT,      // Tastatur- und Maus-Eingaben
+    DIALOGUE,   // Dialog-Fortschritt und Skript-Laden
+    SCENE,      // Szenenwechsel und Vorladen
+    TRANSITION, // Überblendungen
+    ASSETS,     // Bilder und sonstige Ressourcen
+    SAVE        // Spielstände
+}
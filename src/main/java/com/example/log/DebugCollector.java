@@ -0,0 +1,111 @@
+package com.example.log;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Debug-Sammler
+ * ------------
+ * Sammelt Debug-Ereignisse und gibt sie gebündelt über Log aus.
+ * Ersetzt die frühere unsynchronisierte Nachrichtenliste in App.
+ *
+ * Kernfunktionen:
+ * - Typisierte Ereignisse (DebugEvent) statt freier Strings
+ * - Ein nebenläufiger Eimer pro Schweregrad
+ * - Ausgabe nach Schweregrad, innerhalb eines Eimers in Erfassungsreihenfolge
+ * - Jede Zeile trägt ihren Erfassungszeitpunkt, da die Ausgabe gebündelt
+ *   und nach Schweregrad sortiert später erfolgt
+ * - Sicher aus FX-Thread, Platform.runLater-Lambdas und Lade-Threads
+ *
+ * Ohne -Ddebug=true kosten record() und flush() nur eine Abfrage
+ * einer Konstanten. Aufrufer sollten teure Details als detail-Argument
+ * übergeben, damit die Verkettung erst bei der Ausgabe passiert.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class DebugCollector {
+
+    private static final boolean ENABLED = Boolean.getBoolean("debug");
+    private static final Logger LOG = Log.get(Category.APP);
+
+    /** Ein Eimer pro Schweregrad; nach der Klasseninitialisierung nur noch gelesen */
+    private static final Map<DebugEvent.Severity, Queue<DebugEvent>> BUCKETS =
+            new EnumMap<>(DebugEvent.Severity.class);
+
+    static {
+        for (DebugEvent.Severity severity : DebugEvent.Severity.values()) {
+            BUCKETS.put(severity, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    private DebugCollector() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static void error(String context, String payload) {
+        record(DebugEvent.Severity.ERROR, context, payload, null);
+    }
+
+    public static void error(String context, String payload, Object detail) {
+        record(DebugEvent.Severity.ERROR, context, payload, detail);
+    }
+
+    public static void warning(String context, String payload) {
+        record(DebugEvent.Severity.WARNING, context, payload, null);
+    }
+
+    public static void info(String context, String payload) {
+        record(DebugEvent.Severity.INFO, context, payload, null);
+    }
+
+    public static void info(String context, String payload, Object detail) {
+        record(DebugEvent.Severity.INFO, context, payload, detail);
+    }
+
+    /**
+     * Ereignis erfassen
+     * ----------------
+     * @param severity Schweregrad
+     * @param context  Herkunft des Ereignisses
+     * @param payload  Nachricht
+     * @param detail   Optionaler Zusatz (erst bei Ausgabe verkettet)
+     */
+    public static void record(DebugEvent.Severity severity, String context, String payload, Object detail) {
+        if (!ENABLED) return;
+        BUCKETS.get(severity).add(
+                new DebugEvent(severity, context, System.currentTimeMillis(), payload, detail));
+    }
+
+    /**
+     * Gesammelte Ereignisse ausgeben
+     * ----------------------------
+     * Leert die Eimer in der Reihenfolge ERROR, WARNING, INFO.
+     * Während der Ausgabe erfasste Ereignisse landen im nächsten Block
+     * oder werden noch in diesem mit ausgegeben.
+     *
+     * @param block Überschrift des Ausgabeblocks (z.B. "Dialog Setup")
+     */
+    public static void flush(String block) {
+        if (!ENABLED) return;
+        LOG.info("Debug output: {}", block);
+        // EnumMap iteriert in Deklarationsreihenfolge
+        for (Queue<DebugEvent> bucket : BUCKETS.values()) {
+            DebugEvent event;
+            while ((event = bucket.poll()) != null) {
+                String message = event.message();
+                String time = LogRecord.TIME.format(Instant.ofEpochMilli(event.timestamp()));
+                switch (event.severity()) {
+                    case ERROR -> LOG.error("  {} [{}] {}", time, event.context(), message);
+                    case WARNING -> LOG.warn("  {} [{}] {}", time, event.context(), message);
+                    default -> LOG.info("  {} [{}] {}", time, event.context(), message);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.log;
+
+/**
+ * Debug-Ereignis
+ * -------------
+ * Typisierter Eintrag im DebugCollector.
+ *
+ * Felder:
+ * - severity: Schweregrad, bestimmt die Ausgabereihenfolge
+ * - context: Herkunft (z.B. Szenenname oder Subsystem)
+ * - timestamp: Erfassungszeitpunkt in Millisekunden (steht in der Ausgabe)
+ * - payload: Nachricht
+ * - detail: Optionaler Zusatz, wird erst bei der Ausgabe angehängt
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public record DebugEvent(Severity severity, String context, long timestamp, String payload, Object detail) {
+
+    /** Schweregrade in Ausgabereihenfolge (höchste Priorität zuerst) */
+    public enum Severity {
+        ERROR, WARNING, INFO
+    }
+
+    /** Nachricht inklusive Detail */
+    public String message() {
+        return detail == null ? payload : payload + detail;
+    }
+}
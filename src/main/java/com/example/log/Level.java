@@ -0,0 +1,13 @@
+package com.example.log;
+
+/**
+ * Log-Level
+ * --------
+ * Schweregrade in aufsteigender Reihenfolge. OFF schaltet eine Kategorie ab.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public enum Level {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF
+}
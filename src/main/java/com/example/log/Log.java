@@ -0,0 +1,189 @@
+package com.example.log;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Logging-System
+ * -------------
+ * Ersetzt System.out in den Hot Paths der Engine.
+ *
+ * Kernfunktionen:
+ * - Level pro Kategorie (Category), zur Laufzeit änderbar
+ * - Deaktivierte Level kosten keine Allokation
+ * - Lock-freier Ringpuffer zwischen Aufrufer und Writer-Thread
+ * - Konsole und optional rotierende Log-Datei
+ *
+ * Konfiguration (System-Properties):
+ * - -Ddebug=true               Standard-Level DEBUG statt INFO
+ * - -Dlog.level=WARN           Standard-Level für alle Kategorien
+ * - -Dlog.level.input=TRACE    Level für eine Kategorie
+ * - -Dlog.console=false        Konsolenausgabe abschalten
+ * - -Dlog.file=logs/game.log   Log-Datei aktivieren
+ * - -Dlog.file.maxKb=1024      Größe bis zur Rotation
+ * - -Dlog.file.count=5         Anzahl aufbewahrter Dateien
+ *
+ * Ist der Ringpuffer voll, wird die Nachricht verworfen statt den
+ * FX-Thread zu blockieren; die Anzahl wird später gemeldet.
+ *
+ * Verwendung:
+ *   private static final Logger LOG = Log.get(Category.INPUT);
+ *   LOG.debug("Space pressed in scene {}", sceneId);
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class Log {
+
+    private static final int RING_CAPACITY = 8192;
+
+    private static final Map<Category, Logger> LOGGERS = new EnumMap<>(Category.class);
+    private static final LogRing RING = new LogRing(RING_CAPACITY);
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final PrintStream CONSOLE =
+            Boolean.parseBoolean(System.getProperty("log.console", "true")) ? System.out : null;
+    private static final RollingFileSink FILE = openFileSink();
+    private static final Thread WRITER;
+
+    /** Writer parkt oder ist kurz davor; publish() weckt ihn dann */
+    private static volatile boolean idle;
+    /** Log-Datei im Shutdown geschlossen (nur unter dem Log-Monitor) */
+    private static boolean closed;
+
+    static {
+        Level defaultLevel = parseLevel(System.getProperty("log.level"),
+                Boolean.getBoolean("debug") ? Level.DEBUG : Level.INFO);
+        for (Category category : Category.values()) {
+            String key = "log.level." + category.name().toLowerCase(Locale.ROOT);
+            LOGGERS.put(category, new Logger(category, parseLevel(System.getProperty(key), defaultLevel)));
+        }
+
+        WRITER = new Thread(Log::drainLoop, "log-writer");
+        WRITER.setDaemon(true);
+        WRITER.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::shutdown, "log-shutdown"));
+    }
+
+    private Log() {}
+
+    /** Logger für eine Kategorie */
+    public static Logger get(Category category) {
+        return LOGGERS.get(category);
+    }
+
+    /** Setzt das Level aller Kategorien */
+    public static void setLevel(Level level) {
+        LOGGERS.values().forEach(logger -> logger.setLevel(level));
+    }
+
+    static void publish(LogRecord record) {
+        if (!RING.offer(record)) {
+            DROPPED.incrementAndGet();
+        }
+        if (idle) {
+            idle = false;
+            LockSupport.unpark(WRITER);
+        }
+    }
+
+    /**
+     * Writer-Schleife
+     * --------------
+     * Leert den Ring, schreibt gesammelt und parkt ohne Zeitlimit, wenn
+     * nichts anliegt; ein Spiel im Leerlauf weckt den Thread nicht.
+     *
+     * Erst idle setzen, dann den Ring erneut prüfen: ein Eintrag, der
+     * dazwischen ankommt, wird entweder hier gesehen oder sein publish()
+     * sieht idle und weckt den Writer (beides volatile, keine verlorene
+     * Weckung).
+     */
+    private static void drainLoop() {
+        while (true) {
+            if (drain()) continue;
+            idle = true;
+            if (!drain()) {
+                LockSupport.park(Log.class);
+            }
+            idle = false;
+        }
+    }
+
+    /** Shutdown-Hook: letzte Einträge schreiben und die Log-Datei schließen */
+    private static synchronized void shutdown() {
+        drain();
+        closed = true;
+        if (FILE != null) {
+            try {
+                FILE.close();
+            } catch (IOException e) {
+                System.err.println("log: file close failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /** @return true, wenn mindestens ein Eintrag geschrieben wurde */
+    private static synchronized boolean drain() {
+        boolean wrote = false;
+        LogRecord record;
+        while ((record = RING.poll()) != null) {
+            write(record.format());
+            wrote = true;
+        }
+
+        long dropped = DROPPED.getAndSet(0);
+        if (dropped > 0) {
+            write("log: " + dropped + " messages dropped (ring buffer full)");
+            wrote = true;
+        }
+
+        if (wrote) {
+            if (CONSOLE != null) CONSOLE.flush();
+            try {
+                if (FILE != null && !closed) FILE.flush();
+            } catch (IOException e) {
+                System.err.println("log: file flush failed: " + e.getMessage());
+            }
+        }
+        return wrote;
+    }
+
+    private static void write(String line) {
+        if (CONSOLE != null) CONSOLE.println(line);
+        if (FILE != null && !closed) {
+            try {
+                FILE.write(line);
+            } catch (IOException e) {
+                System.err.println("log: file write failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private static RollingFileSink openFileSink() {
+        String file = System.getProperty("log.file");
+        if (file == null || file.isBlank()) return null;
+        try {
+            return new RollingFileSink(Path.of(file),
+                    Long.getLong("log.file.maxKb", 1024L) * 1024,
+                    Integer.getInteger("log.file.count", 5));
+        } catch (IOException e) {
+            System.err.println("log: cannot open " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Level parseLevel(String value, Level fallback) {
+        if (value == null) return fallback;
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("log: unknown level '" + value + "', using " + fallback);
+            return fallback;
+        }
+    }
+}
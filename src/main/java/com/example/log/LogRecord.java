@@ -0,0 +1,50 @@
+package com.example.log;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Log-Eintrag
+ * ----------
+ * Unformatierte Nachricht, wie sie im Ringpuffer liegt.
+ * Die Formatierung passiert erst im Writer-Thread (format()).
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+record LogRecord(long timestamp, Level level, Category category, String thread,
+                 String template, Object a, Object b, Object c, Throwable error) {
+
+    /** Zeitformat der Log-Zeilen (auch für DebugCollector) */
+    static final DateTimeFormatter TIME =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    /** Formatiert den Eintrag als eine Zeile (plus Stacktrace) */
+    String format() {
+        StringBuilder line = new StringBuilder(96 + template.length());
+        TIME.formatTo(Instant.ofEpochMilli(timestamp), line);
+        line.append(' ').append(level).append(level.name().length() == 4 ? " " : "")
+            .append(" [").append(category).append("] ")
+            .append('(').append(thread).append(") ");
+
+        Object[] args = { a, b, c };
+        int next = 0;
+        int from = 0;
+        int at;
+        while (next < args.length && (at = template.indexOf("{}", from)) >= 0) {
+            line.append(template, from, at).append(args[next++]);
+            from = at + 2;
+        }
+        line.append(template, from, template.length());
+
+        if (error != null) {
+            StringWriter trace = new StringWriter();
+            error.printStackTrace(new PrintWriter(trace));
+            line.append(System.lineSeparator()).append(trace);
+        }
+        return line.toString();
+    }
+}
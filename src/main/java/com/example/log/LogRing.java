@@ -0,0 +1,80 @@
+package com.example.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-freier Ringpuffer
+ * --------------------
+ * Begrenzte Warteschlange für viele Produzenten und einen Konsumenten
+ * (Sequenz-Ring nach Vyukov).
+ *
+ * Funktionsweise:
+ * - Jeder Slot trägt eine Sequenznummer
+ * - Produzenten reservieren einen Slot per CAS auf tail
+ * - Der Konsument liest nur Slots, deren Sequenz veröffentlicht ist
+ * - Ist der Ring voll, schlägt offer() fehl statt zu blockieren
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+final class LogRing {
+
+    private final LogRecord[] slots;
+    private final AtomicLongArray sequence;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head = 0; // nur vom Konsumenten benutzt
+
+    LogRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        slots = new LogRecord[size];
+        sequence = new AtomicLongArray(size);
+        mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequence.set(i, i);
+        }
+    }
+
+    /**
+     * Eintrag ablegen
+     *
+     * @return false, wenn der Ring voll ist
+     */
+    boolean offer(LogRecord record) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequence.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = record;
+                    // Volatile statt lazySet: Log.publish() liest danach idle,
+                    // der Writer prüft den Ring nach dem Setzen von idle erneut
+                    sequence.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Eintrag entnehmen (nur Writer-Thread)
+     *
+     * @return nächster Eintrag oder null, wenn der Ring leer ist
+     */
+    LogRecord poll() {
+        int index = (int) (head & mask);
+        if (sequence.get(index) != head + 1) return null;
+        LogRecord record = slots[index];
+        slots[index] = null;
+        sequence.lazySet(index, head + slots.length);
+        head++;
+        return record;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.log;
+
+/**
+ * Kategorie-Logger
+ * ---------------
+ * Schreibt Nachrichten einer Kategorie in den Log-Ringpuffer.
+ *
+ * Kosten:
+ * - Deaktiviertes Level: ein Integer-Vergleich, keine Allokation
+ * - Aktiviertes Level: ein LogRecord; Formatierung erst im Writer-Thread
+ *
+ * Platzhalter "{}" werden der Reihe nach durch die Argumente ersetzt.
+ * Die festen Überladungen (statt varargs) vermeiden ein Array pro Aufruf.
+ * Für primitive Argumente im Hot Path vorher isEnabled() prüfen, damit
+ * kein Autoboxing stattfindet. Eine Throwable als letztes Argument von
+ * error() landet mit Stacktrace im Log, nicht als Platzhalter-Text.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class Logger {
+
+    private final Category category;
+    private volatile int threshold;
+
+    Logger(Category category, Level level) {
+        this.category = category;
+        this.threshold = level.ordinal();
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    /** Ändert das Level zur Laufzeit */
+    public void setLevel(Level level) {
+        this.threshold = level.ordinal();
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold;
+    }
+
+    public boolean isTraceEnabled() {
+        return Level.TRACE.ordinal() >= threshold;
+    }
+
+    public boolean isDebugEnabled() {
+        return Level.DEBUG.ordinal() >= threshold;
+    }
+
+    public void trace(String message) { log(Level.TRACE, message, null, null, null, null); }
+    public void trace(String format, Object a) { log(Level.TRACE, format, a, null, null, null); }
+    public void trace(String format, Object a, Object b) { log(Level.TRACE, format, a, b, null, null); }
+    public void trace(String format, Object a, Object b, Object c) { log(Level.TRACE, format, a, b, c, null); }
+
+    public void debug(String message) { log(Level.DEBUG, message, null, null, null, null); }
+    public void debug(String format, Object a) { log(Level.DEBUG, format, a, null, null, null); }
+    public void debug(String format, Object a, Object b) { log(Level.DEBUG, format, a, b, null, null); }
+    public void debug(String format, Object a, Object b, Object c) { log(Level.DEBUG, format, a, b, c, null); }
+
+    public void info(String message) { log(Level.INFO, message, null, null, null, null); }
+    public void info(String format, Object a) { log(Level.INFO, format, a, null, null, null); }
+    public void info(String format, Object a, Object b) { log(Level.INFO, format, a, b, null, null); }
+    public void info(String format, Object a, Object b, Object c) { log(Level.INFO, format, a, b, c, null); }
+
+    public void warn(String message) { log(Level.WARN, message, null, null, null, null); }
+    public void warn(String format, Object a) { log(Level.WARN, format, a, null, null, null); }
+    public void warn(String format, Object a, Object b) { log(Level.WARN, format, a, b, null, null); }
+    public void warn(String format, Object a, Object b, Object c) { log(Level.WARN, format, a, b, c, null); }
+
+    public void error(String message) { log(Level.ERROR, message, null, null, null, null); }
+    public void error(String format, Object a) { log(Level.ERROR, format, a, null, null, null); }
+    public void error(String format, Object a, Object b) { log(Level.ERROR, format, a, b, null, null); }
+    public void error(String format, Object a, Object b, Object c) { log(Level.ERROR, format, a, b, c, null); }
+    public void error(String message, Throwable error) { log(Level.ERROR, message, null, null, null, error); }
+    public void error(String format, Object a, Throwable error) { log(Level.ERROR, format, a, null, null, error); }
+
+    private void log(Level level, String format, Object a, Object b, Object c, Throwable error) {
+        if (level.ordinal() < threshold) return;
+        Log.publish(new LogRecord(System.currentTimeMillis(), level, category,
+                Thread.currentThread().getName(), format, a, b, c, error));
+    }
+}
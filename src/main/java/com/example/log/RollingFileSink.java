@@ -0,0 +1,78 @@
+package com.example.log;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Rotierende Log-Datei
+ * ------------------
+ * Schreibt Log-Zeilen in eine Datei und rotiert bei Erreichen der
+ * Maximalgröße: game.log -> game.log.1 -> ... -> game.log.N.
+ *
+ * Wird ausschließlich vom Writer-Thread benutzt.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+final class RollingFileSink {
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+    private BufferedWriter writer;
+    private long written;
+
+    RollingFileSink(Path file, long maxBytes, int maxFiles) throws IOException {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxFiles = Math.max(1, maxFiles);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        open();
+    }
+
+    void write(String line) throws IOException {
+        if (written + line.length() + 1 > maxBytes && written > 0) {
+            rotate();
+        }
+        writer.write(line);
+        writer.newLine();
+        written += line.length() + 1;
+    }
+
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    void close() throws IOException {
+        writer.close();
+    }
+
+    private void open() throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        written = Files.size(file);
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        Files.deleteIfExists(numbered(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path source = numbered(i);
+            if (Files.exists(source)) {
+                Files.move(source, numbered(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, numbered(1), StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    private Path numbered(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Zähler
+ * -----
+ * Monoton steigender Zähler ohne Sperren; parallele Aufrufe aus
+ * mehreren Threads verteilen sich auf eigene Zellen (LongAdder).
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class Counter {
+
+    private final String name;
+    private final String help;
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+}
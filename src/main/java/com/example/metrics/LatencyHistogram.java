@@ -0,0 +1,129 @@
+package com.example.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latenz-Histogramm
+ * ----------------
+ * Histogramm im Stil von HdrHistogram mit fester Speichergröße und
+ * ohne Sperren. Werte werden in Mikrosekunden erfasst.
+ *
+ * Aufteilung der Buckets (log-linear):
+ * - 0 bis 15 µs: ein Bucket pro Mikrosekunde
+ * - darüber: jede Zweierpotenz in SUB_COUNT gleich breite Buckets,
+ *   relative Abweichung also höchstens 1/16 (ca. 6 %)
+ * - bis MAX_MICROS (ca. 71 Minuten), größere Werte landen im letzten Bucket
+ *
+ * record() kostet eine Bit-Operation und ein getAndIncrement, ist also
+ * auch auf dem FX-Thread unkritisch.
+ *
+ * Verwendung:
+ *   long start = System.nanoTime();
+ *   ...
+ *   HISTOGRAM.recordSince(start);
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int MAX_MAGNITUDE = 31;
+    private static final long MAX_MICROS = (1L << (MAX_MAGNITUDE + 1)) - 1;
+    private static final int BUCKETS = SUB_COUNT + (MAX_MAGNITUDE - SUB_BITS + 1) * SUB_COUNT;
+
+    /**
+     * Momentaufnahme
+     * -------------
+     * Kopie der Bucket-Zähler; Perzentile werden daraus berechnet.
+     *
+     * @param count     Anzahl Werte
+     * @param sumMicros Summe aller Werte
+     * @param maxMicros Größter Wert
+     * @param buckets   Anzahl Werte pro Bucket
+     */
+    public record Snapshot(long count, long sumMicros, long maxMicros, long[] buckets) {
+
+        /**
+         * Perzentil
+         *
+         * @param quantile Anteil zwischen 0 und 1 (z.B. 0.99)
+         * @return Obere Grenze des Buckets, in dem das Perzentil liegt (µs), 0 ohne Werte
+         */
+        public long valueAt(double quantile) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) return Math.min(upperBound(i), maxMicros);
+            }
+            return maxMicros;
+        }
+    }
+
+    private final String name;
+    private final String help;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    LatencyHistogram(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    /** Erfasst eine Dauer in Nanosekunden */
+    public void record(long nanos) {
+        long micros = Math.min(Math.max(nanos / 1000L, 0L), MAX_MICROS);
+        buckets.getAndIncrement(bucketOf(micros));
+        sum.addAndGet(micros);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /** Erfasst die Zeit seit startNanos (System.nanoTime()) */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Momentaufnahme erstellen
+     * -----------------------
+     * Die Anzahl wird aus den kopierten Buckets gebildet, damit
+     * Perzentile zur Anzahl passen, auch wenn parallel erfasst wird.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = buckets.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(count, sum.get(), max.get(), copy);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_COUNT) return (int) micros;
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = magnitude - SUB_BITS;
+        int sub = (int) (micros >>> shift) - SUB_COUNT;
+        return SUB_COUNT + shift * SUB_COUNT + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_COUNT) return bucket;
+        int shift = (bucket - SUB_COUNT) / SUB_COUNT;
+        int sub = (bucket - SUB_COUNT) % SUB_COUNT;
+        return ((long) (SUB_COUNT + sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+
+import javafx.scene.Scene;
+
+/**
+ * Metrik-Registry
+ * --------------
+ * Zentrale Stelle für Laufzeit-Messwerte der Engine.
+ *
+ * Kernfunktionen:
+ * - Zähler (Counter) und Latenz-Histogramme (LatencyHistogram), beide ohne Sperren
+ * - JMX-MBean com.example:type=Metrics
+ * - Optional lokaler HTTP-Endpunkt im Prometheus-Textformat
+ * - Dauer von CSS/Layout pro JavaFX-Puls (monitorPulses)
+ *
+ * Konfiguration (System-Properties):
+ * - -Dmetrics.port=9464   HTTP-Endpunkt auf 127.0.0.1:9464/metrics
+ * - -Dmetrics.tier=low    Label tier="low" an allen exportierten Werten,
+ *                         um Hardware-Klassen zu vergleichen
+ *
+ * Verwendung:
+ *   private static final LatencyHistogram FXML_LOAD =
+ *           Metrics.histogram("fxml.load", "FXML parsing and controller creation");
+ *   long start = System.nanoTime();
+ *   ...
+ *   FXML_LOAD.recordSince(start);
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class Metrics {
+
+    private static final Logger LOG = Log.get(Category.APP);
+
+    private static final String PREFIX = "datingsim_";
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    /** Dauer von CSS und Layout pro Puls (alle Szenen) */
+    private static final LatencyHistogram PULSE = histogram("fx.pulse.layout",
+            "CSS and layout time per JavaFX pulse");
+
+    private static PrometheusEndpoint endpoint;
+
+    private Metrics() {}
+
+    /**
+     * Zähler holen oder anlegen
+     *
+     * @param name Name mit Punkten (z.B. "image.cache.hits")
+     * @param help Beschreibung für den Export
+     */
+    public static Counter counter(String name, String help) {
+        return COUNTERS.computeIfAbsent(name, key -> new Counter(key, help));
+    }
+
+    /**
+     * Histogramm holen oder anlegen
+     *
+     * @param name Name mit Punkten (z.B. "scene.transition")
+     * @param help Beschreibung für den Export
+     */
+    public static LatencyHistogram histogram(String name, String help) {
+        return HISTOGRAMS.computeIfAbsent(name, key -> new LatencyHistogram(key, help));
+    }
+
+    /**
+     * Pulse einer Szene messen
+     * -----------------------
+     * Misst die Zeit zwischen Pre- und Post-Layout-Listener, also CSS und
+     * Layout eines Pulses. Erzwingt keine zusätzlichen Pulse.
+     * Muss auf dem FX-Thread aufgerufen werden.
+     *
+     * @param scene Zu beobachtende Szene
+     */
+    public static void monitorPulses(Scene scene) {
+        long[] start = new long[1];
+        scene.addPreLayoutPulseListener(() -> start[0] = System.nanoTime());
+        scene.addPostLayoutPulseListener(() -> {
+            if (start[0] != 0) PULSE.recordSince(start[0]);
+        });
+    }
+
+    /**
+     * Export starten
+     * -------------
+     * Registriert die MBean und startet bei gesetztem -Dmetrics.port den
+     * HTTP-Endpunkt. Fehler werden geloggt, das Spiel läuft weiter.
+     */
+    public static synchronized void startExport() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("com.example:type=Metrics");
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsBean(), name);
+            }
+        } catch (JMException e) {
+            LOG.warn("Metrics MBean not registered: {}", e);
+        }
+
+        Integer port = Integer.getInteger("metrics.port");
+        if (port != null && endpoint == null) {
+            try {
+                endpoint = PrometheusEndpoint.start(port);
+                LOG.info("Metrics available at http://127.0.0.1:{}/metrics", port);
+            } catch (IOException e) {
+                LOG.warn("Metrics endpoint on port {} failed: {}", port, e);
+            }
+        }
+    }
+
+    /** Beendet den HTTP-Endpunkt (falls gestartet) */
+    public static synchronized void stopExport() {
+        if (endpoint != null) {
+            endpoint.stop();
+            endpoint = null;
+        }
+    }
+
+    /**
+     * Prometheus-Textformat
+     * --------------------
+     * Zähler als counter (_total), Histogramme als summary in Sekunden
+     * mit den Quantilen aus QUANTILES sowie _sum und _count.
+     */
+    public static String prometheus() {
+        String tier = System.getProperty("metrics.tier");
+        String label = tier == null ? "" : "tier=\"" + escape(tier) + "\"";
+        StringBuilder out = new StringBuilder(4096);
+
+        for (Counter counter : new TreeMap<>(COUNTERS).values()) {
+            String name = PREFIX + sanitize(counter.getName()) + "_total";
+            header(out, name, counter.getHelp(), "counter");
+            sample(out, name, label, Long.toString(counter.get()));
+        }
+
+        for (LatencyHistogram histogram : new TreeMap<>(HISTOGRAMS).values()) {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            String name = PREFIX + sanitize(histogram.getName()) + "_seconds";
+            header(out, name, histogram.getHelp(), "summary");
+            for (double quantile : QUANTILES) {
+                String quantileLabel = "quantile=\"" + quantile + "\"";
+                sample(out, name, label.isEmpty() ? quantileLabel : label + "," + quantileLabel,
+                        seconds(snapshot.valueAt(quantile)));
+            }
+            sample(out, name + "_sum", label, seconds(snapshot.sumMicros()));
+            sample(out, name + "_count", label, Long.toString(snapshot.count()));
+        }
+        return out.toString();
+    }
+
+    /** Wert pro Histogramm für die MBean */
+    static <T> Map<String, T> perHistogram(Function<LatencyHistogram.Snapshot, T> value) {
+        Map<String, T> values = new TreeMap<>();
+        HISTOGRAMS.forEach((name, histogram) -> values.put(name, value.apply(histogram.snapshot())));
+        return values;
+    }
+
+    static Map<String, Long> counters() {
+        Map<String, Long> values = new TreeMap<>();
+        COUNTERS.forEach((name, counter) -> values.put(name, counter.get()));
+        return values;
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, String value) {
+        out.append(name);
+        if (!labels.isEmpty()) out.append('{').append(labels).append('}');
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static String seconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0);
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^a-zA-Z0-9_]", "_");
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /** MBean-Implementierung, liest bei jedem Zugriff frisch */
+    private static final class MetricsBean implements MetricsMXBean {
+
+        @Override
+        public Map<String, Long> getCounters() {
+            return counters();
+        }
+
+        @Override
+        public Map<String, Long> getCounts() {
+            return perHistogram(LatencyHistogram.Snapshot::count);
+        }
+
+        @Override
+        public Map<String, Double> getP50Millis() {
+            return perHistogram(snapshot -> snapshot.valueAt(0.5) / 1000.0);
+        }
+
+        @Override
+        public Map<String, Double> getP99Millis() {
+            return perHistogram(snapshot -> snapshot.valueAt(0.99) / 1000.0);
+        }
+
+        @Override
+        public Map<String, Double> getMaxMillis() {
+            return perHistogram(snapshot -> snapshot.maxMicros() / 1000.0);
+        }
+
+        @Override
+        public String getPrometheusText() {
+            return prometheus();
+        }
+    }
+}
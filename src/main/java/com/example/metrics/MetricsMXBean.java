@@ -0,0 +1,33 @@
+package com.example.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX-Sicht auf die Metriken
+ * -------------------------
+ * Registriert als com.example:type=Metrics (z.B. in JConsole oder
+ * VisualVM unter MBeans). Schlüssel sind die Metriknamen aus Metrics.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public interface MetricsMXBean {
+
+    /** Stand aller Zähler */
+    Map<String, Long> getCounters();
+
+    /** Anzahl erfasster Werte pro Histogramm */
+    Map<String, Long> getCounts();
+
+    /** Median pro Histogramm in Millisekunden */
+    Map<String, Double> getP50Millis();
+
+    /** 99. Perzentil pro Histogramm in Millisekunden */
+    Map<String, Double> getP99Millis();
+
+    /** Größter Wert pro Histogramm in Millisekunden */
+    Map<String, Double> getMaxMillis();
+
+    /** Alle Metriken im Prometheus-Textformat */
+    String getPrometheusText();
+}
@@ -0,0 +1,24 @@
+package com.example.save;
+
+import java.util.Set;
+
+/**
+ * Spielstand
+ * ---------
+ * Unveränderlicher Schnappschuss einer StorySession.
+ *
+ * slot: Nummer des Speicherplatzes
+ * scene: Aktuelle Szene
+ * lineIndex: Position der angezeigten Zeile (ab 0)
+ * flags: Gesetzte Story-Flags
+ * timestamp: Speicherzeitpunkt in Millisekunden seit 1970
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public record SaveGame(int slot, String scene, int lineIndex, Set<String> flags, long timestamp) {
+
+    public SaveGame {
+        flags = Set.copyOf(flags);
+    }
+}
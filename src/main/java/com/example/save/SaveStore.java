@@ -0,0 +1,323 @@
+package com.example.save;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+
+/**
+ * Spielstand-Speicher
+ * ------------------
+ * Nummerierte Speicherplätze in einem kompakten, versionierten Binärformat.
+ *
+ * Kernfunktionen:
+ * - Schreiben auf einem eigenen Thread (nie auf dem FX-Thread)
+ * - Atomar: FileChannel in eine .tmp-Datei, force(), dann Umbenennen
+ * - Slot-Liste liest nur die Kopfdaten jeder Datei (ein read() pro Slot)
+ * - Prüfsumme und Versionsprüfung beim Laden
+ *
+ * Dateiaufbau (Big Endian), eine Datei pro Slot (slot-NNN.sav):
+ *   Kopf (32 Byte)
+ *     int   MAGIC ("DSAV")
+ *     short VERSION
+ *     short Länge der Szenen-Id in Bytes
+ *     int   Slot
+ *     long  Zeitstempel (ms seit 1970)
+ *     int   Zeilen-Index
+ *     short Anzahl Flags
+ *     short reserviert
+ *     int   CRC32 über Kopf (ohne dieses Feld) und Inhalt
+ *   Szenen-Id (UTF-8, höchstens 255 Byte)
+ *   Flags     (je short Länge + UTF-8)
+ *
+ * Konfiguration:
+ * - -Dsave.dir: Verzeichnis der Spielstände (Standard ~/.datingsim/saves)
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class SaveStore {
+
+    private static final Logger LOG = Log.get(Category.SAVE);
+
+    /** Format-Konstanten */
+    static final int MAGIC = 0x44534156;
+    static final short VERSION = 2;
+    static final int HEADER_BYTES = 32;
+    static final int CRC_OFFSET = 28;
+    static final int MAX_SCENE_BYTES = 255;
+    static final int MAX_SLOT = 999;
+
+    private static final SaveStore instance = new SaveStore(Path.of(System.getProperty("save.dir",
+            Path.of(System.getProperty("user.home"), ".datingsim", "saves").toString())));
+
+    private final Path directory;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Speicher für ein Verzeichnis
+     *
+     * @param directory Ablageort der Slot-Dateien (wird bei Bedarf angelegt)
+     */
+    public SaveStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public static SaveStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Speichern
+     * --------
+     * Kodiert den Spielstand sofort (kleiner Puffer) und schreibt ihn
+     * auf dem Writer-Thread. Aufträge laufen in Aufrufreihenfolge.
+     *
+     * @param game Zu speichernder Spielstand
+     * @return Future, das mit dem Pfad der Slot-Datei abgeschlossen wird
+     */
+    public CompletableFuture<Path> save(SaveGame game) {
+        ByteBuffer data;
+        try {
+            data = encode(game);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return write(game.slot(), data);
+            } catch (IOException e) {
+                LOG.error("Saving slot " + game.slot() + " failed", e);
+                throw new UncheckedIOException(e);
+            }
+        }, writer);
+    }
+
+    /**
+     * Laden
+     * ----
+     * Liest einen Slot vollständig und prüft die Prüfsumme.
+     *
+     * @param slot Nummer des Speicherplatzes
+     * @return Spielstand
+     * @throws IOException Wenn der Slot fehlt oder beschädigt ist
+     */
+    public SaveGame load(int slot) throws IOException {
+        Path file = fileOf(slot);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid save file size: " + file);
+            }
+            ByteBuffer data = ByteBuffer.allocate((int) size);
+            while (data.hasRemaining() && channel.read(data) >= 0) {
+                // weiterlesen, bis der Puffer voll ist
+            }
+            data.flip();
+            return decode(data, file);
+        }
+    }
+
+    /**
+     * Slot-Liste
+     * ---------
+     * Liest nur die Kopfdaten aller Slots; beschädigte Dateien werden
+     * protokolliert und übersprungen.
+     *
+     * @return Übersicht aller Slots, nach Nummer sortiert
+     */
+    public List<SaveSummary> list() {
+        List<SaveSummary> slots = new ArrayList<>();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + MAX_SCENE_BYTES);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "slot-*.sav")) {
+            for (Path file : files) {
+                try {
+                    slots.add(readSummary(file, header));
+                } catch (IOException e) {
+                    LOG.warn("Skipping unreadable save {}: {}", file.getFileName(), e.getMessage());
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return List.of();
+        } catch (IOException e) {
+            LOG.error("Listing saves in " + directory + " failed", e);
+        }
+        slots.sort(Comparator.comparingInt(SaveSummary::slot));
+        return slots;
+    }
+
+    /** Löscht einen Slot; fehlende Slots sind kein Fehler */
+    public boolean delete(int slot) throws IOException {
+        return Files.deleteIfExists(fileOf(slot));
+    }
+
+    /** Pfad der Slot-Datei */
+    public Path fileOf(int slot) {
+        if (slot < 0 || slot > MAX_SLOT) {
+            throw new IllegalArgumentException("Slot out of range: " + slot);
+        }
+        return directory.resolve(String.format("slot-%03d.sav", slot));
+    }
+
+    /** Schreibt atomar: temporäre Datei, force(), Umbenennen */
+    private Path write(int slot, ByteBuffer data) throws IOException {
+        Files.createDirectories(directory);
+        Path target = fileOf(slot);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        LOG.debug("Saved slot {} ({} bytes)", slot, data.limit());
+        return target;
+    }
+
+    /** Liest Kopf und Szenen-Id in einem Zugriff */
+    private static SaveSummary readSummary(Path file, ByteBuffer header) throws IOException {
+        header.clear();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Kopf plus Szenen-Id, Rest der Datei bleibt ungelesen
+            }
+        }
+        header.flip();
+        checkHeader(header, file);
+        int sceneLength = Short.toUnsignedInt(header.getShort(6));
+        if (header.limit() < HEADER_BYTES + sceneLength) {
+            throw new IOException("Truncated save file");
+        }
+        return new SaveSummary(header.getInt(8), string(header, HEADER_BYTES, sceneLength),
+                header.getInt(20), header.getLong(12));
+    }
+
+    private static void checkHeader(ByteBuffer data, Path file) throws IOException {
+        if (data.limit() < HEADER_BYTES || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a save file: " + file.getFileName());
+        }
+        if (data.getShort(4) != VERSION) {
+            throw new IOException("Unsupported save version " + data.getShort(4));
+        }
+    }
+
+    /**
+     * Kodierung
+     * --------
+     * Flags werden sortiert geschrieben, damit gleiche Stände gleiche
+     * Dateien ergeben.
+     */
+    static ByteBuffer encode(SaveGame game) {
+        byte[] scene = game.scene().getBytes(StandardCharsets.UTF_8);
+        if (scene.length > MAX_SCENE_BYTES) {
+            throw new IllegalArgumentException("Scene id too long: " + game.scene());
+        }
+        List<byte[]> flags = new ArrayList<>();
+        int flagBytes = 0;
+        for (String flag : game.flags().stream().sorted().toList()) {
+            byte[] bytes = flag.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > 0xFFFF) throw new IllegalArgumentException("Flag too long: " + flag);
+            flags.add(bytes);
+            flagBytes += 2 + bytes.length;
+        }
+        if (flags.size() > 0xFFFF) throw new IllegalArgumentException("Too many flags");
+
+        ByteBuffer data = ByteBuffer.allocate(HEADER_BYTES + scene.length + flagBytes);
+        data.putInt(MAGIC)
+            .putShort(VERSION)
+            .putShort((short) scene.length)
+            .putInt(game.slot())
+            .putLong(game.timestamp())
+            .putInt(game.lineIndex())
+            .putShort((short) flags.size())
+            .putShort((short) 0)
+            .putInt(0);
+        data.put(scene);
+        for (byte[] flag : flags) {
+            data.putShort((short) flag.length).put(flag);
+        }
+
+        data.putInt(CRC_OFFSET, checksum(data, data.position()));
+        return data.flip();
+    }
+
+    /**
+     * Prüfsumme
+     * --------
+     * Kopf bis vor das CRC-Feld plus alles nach dem Kopf, damit auch
+     * Slot, Zeitstempel, Zeilen-Index und Flag-Anzahl abgesichert sind.
+     *
+     * @param data Datei-Inhalt ab Position 0
+     * @param end  Ende des Inhalts
+     */
+    private static int checksum(ByteBuffer data, int end) {
+        CRC32 crc = new CRC32();
+        crc.update(data.slice(0, CRC_OFFSET));
+        crc.update(data.slice(HEADER_BYTES, end - HEADER_BYTES));
+        return (int) crc.getValue();
+    }
+
+    /** Dekodierung mit Prüfsummen-Kontrolle */
+    static SaveGame decode(ByteBuffer data, Path file) throws IOException {
+        checkHeader(data, file);
+        if (checksum(data, data.limit()) != data.getInt(CRC_OFFSET)) {
+            throw new IOException("Save checksum mismatch: " + file.getFileName());
+        }
+
+        try {
+            int sceneLength = Short.toUnsignedInt(data.getShort(6));
+            String scene = string(data, HEADER_BYTES, sceneLength);
+            int flagCount = Short.toUnsignedInt(data.getShort(24));
+            Set<String> flags = new HashSet<>();
+            int at = HEADER_BYTES + sceneLength;
+            for (int i = 0; i < flagCount; i++) {
+                int length = Short.toUnsignedInt(data.getShort(at));
+                flags.add(string(data, at + 2, length));
+                at += 2 + length;
+            }
+            return new SaveGame(data.getInt(8), scene, data.getInt(20), flags, data.getLong(12));
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Truncated save file: " + file.getFileName(), e);
+        }
+    }
+
+    private static String string(ByteBuffer data, int offset, int length) {
+        byte[] bytes = new byte[length];
+        data.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.save;
+
+/**
+ * Speicherplatz-Übersicht
+ * ----------------------
+ * Nur die Kopfdaten eines Spielstands, wie sie die Slot-Liste braucht.
+ * Flags werden dafür nicht gelesen.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public record SaveSummary(int slot, String scene, int lineIndex, long timestamp) {}
@@ -0,0 +1,154 @@
+package com.example.story;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Backlog
+ * ------
+ * Die letzten N angezeigten Zeilen einer Session in einem Ringpuffer
+ * fester Größe.
+ *
+ * Kernfunktionen:
+ * - add() ohne Allokation: drei parallele Arrays, überschreibt den ältesten Eintrag
+ * - Einträge verweisen auf die Zeilen des Skripts (keine Kopien)
+ * - Szene und Zeilen-Index pro Eintrag für das Zurückspulen
+ * - view(): Live-Listenansicht für eine virtualisierte ListView
+ * - find(): Positionen passender Zeilen (z.B. mit ScriptIndex.Query::matches)
+ * - copy(): Unabhängige Kopie (drei Array-Kopien) für andere Threads
+ *
+ * Konfiguration:
+ * - -Dbacklog.size: Anzahl Einträge (Standard 200)
+ *
+ * Wie die Session nicht thread-sicher; andere Threads erhalten copy().
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class Backlog {
+
+    public static final int DEFAULT_CAPACITY = Integer.getInteger("backlog.size", 200);
+
+    /**
+     * Eintrag
+     * ------
+     * scene: Szene der Zeile
+     * index: Position der Zeile in der Szene
+     * line: Zeile aus dem Skript (gleiche Referenz, keine Kopie)
+     */
+    public record Entry(String scene, int index, DialogueLine line) {}
+
+    private final String[] scenes;
+    private final int[] indices;
+    private final DialogueLine[] lines;
+    private int head;   // Nächster Schreibplatz
+    private int size;
+
+    /**
+     * @param capacity Maximale Anzahl Einträge
+     */
+    public Backlog(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Backlog capacity must be positive");
+        scenes = new String[capacity];
+        indices = new int[capacity];
+        lines = new DialogueLine[capacity];
+    }
+
+    /** Kopie mit gleichem Inhalt; Einträge entstehen weiterhin erst beim Lesen */
+    public Backlog copy() {
+        Backlog copy = new Backlog(scenes.length);
+        System.arraycopy(scenes, 0, copy.scenes, 0, scenes.length);
+        System.arraycopy(indices, 0, copy.indices, 0, indices.length);
+        System.arraycopy(lines, 0, copy.lines, 0, lines.length);
+        copy.head = head;
+        copy.size = size;
+        return copy;
+    }
+
+    /** Hängt eine angezeigte Zeile an; ist der Puffer voll, fällt die älteste heraus */
+    public void add(String scene, int index, DialogueLine line) {
+        scenes[head] = scene;
+        indices[head] = index;
+        lines[head] = line;
+        head = (head + 1) % scenes.length;
+        if (size < scenes.length) size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return scenes.length;
+    }
+
+    /**
+     * Eintrag lesen
+     *
+     * @param position 0 = ältester Eintrag, size() - 1 = neuester
+     */
+    public Entry get(int position) {
+        int slot = slot(position);
+        return new Entry(scenes[slot], indices[slot], lines[slot]);
+    }
+
+    /**
+     * Kürzen
+     * -----
+     * Entfernt alle Einträge ab position (die neueren), z.B. beim Zurückspulen.
+     *
+     * @param position Anzahl Einträge, die erhalten bleiben
+     */
+    public void truncate(int position) {
+        if (position < 0 || position > size) throw new IndexOutOfBoundsException(position);
+        while (size > position) {
+            head = (head - 1 + scenes.length) % scenes.length;
+            scenes[head] = null;
+            lines[head] = null;
+            size--;
+        }
+    }
+
+    public void clear() {
+        truncate(0);
+    }
+
+    /**
+     * Suchen
+     * -----
+     * Linear über höchstens capacity() Zeilen; für das ganze Skript gibt
+     * es den ScriptIndex.
+     *
+     * @param matcher Prüft eine Zeile
+     * @return Passende Positionen, ältester Eintrag zuerst
+     */
+    public List<Integer> find(Predicate<DialogueLine> matcher) {
+        List<Integer> positions = new ArrayList<>();
+        for (int position = 0; position < size; position++) {
+            if (matcher.test(lines[slot(position)])) positions.add(position);
+        }
+        return positions;
+    }
+
+    /** Live-Ansicht (ältester Eintrag zuerst); Einträge entstehen erst beim Lesen */
+    public List<Entry> view() {
+        return new AbstractList<>() {
+            @Override
+            public Entry get(int position) {
+                return Backlog.this.get(position);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int slot(int position) {
+        if (position < 0 || position >= size) throw new IndexOutOfBoundsException(position);
+        return (head - size + position + scenes.length) % scenes.length;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.story;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dialogzeile
+ * ----------
+ * Unveränderliche, beim Laden einmal zerlegte Zeile des Skripts.
+ * Die Anzeige liest nur noch die Felder; nichts wird pro Anzeige geparst.
+ *
+ * Skript-Syntax:
+ *   (Liu Bei)          "Da bist du ja."     Sprecher und Text (Einrückung egal)
+ *   Erzähltext ohne Sprecher
+ *   "Warte...{wait 600} jetzt!"             Inline-Befehl in geschweiften Klammern
+ *
+ * Befehle (an ihrer Textposition):
+ * - {wait ms}     Schreibmaschinen-Effekt hält an dieser Stelle an
+ * - {flag name}   Setzt beim Anzeigen der Zeile ein Story-Flag
+ * - {unflag name} Entfernt ein Story-Flag
+ * Unbekannte Befehle bleiben im Datensatz und werden ignoriert.
+ *
+ * @param speaker  Sprecher (innerhalb eines Skripts dieselbe Instanz) oder null
+ * @param text     Angezeigter Text ohne Sprecher und Befehle
+ * @param commands Befehle in Textreihenfolge (meist leer)
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public record DialogueLine(String speaker, String text, List<Command> commands) {
+
+    /**
+     * Inline-Befehl
+     *
+     * @param name     Befehlsname, z.B. "wait"
+     * @param argument Argument oder "" (z.B. "600")
+     * @param offset   Position im Text, vor der der Befehl wirkt
+     */
+    public record Command(String name, String argument, int offset) {}
+
+    public DialogueLine {
+        commands = List.copyOf(commands);
+    }
+
+    /** Zeile ohne Sprecher und Befehle */
+    public static DialogueLine of(String text) {
+        return new DialogueLine(null, text, List.of());
+    }
+
+    /**
+     * Zeile zerlegen
+     * -------------
+     * "(Name)   \"Text\"" wird in Sprecher und Text zerlegt; Klammern ohne
+     * folgendes Zitat (z.B. Credits) bleiben normaler Text.
+     *
+     * @param raw      Getrimmte Zeile aus dem Skript
+     * @param speakers Sprecher-Pool des Skripts (gleiche Namen teilen eine Instanz)
+     * @return Zerlegte Zeile
+     */
+    public static DialogueLine parse(String raw, Map<String, String> speakers) {
+        String[] parts = splitSpeaker(raw);
+        String speaker = parts[0] == null ? null : speakers.computeIfAbsent(parts[0], name -> name);
+        return withBody(speaker, parts[1]);
+    }
+
+    /**
+     * Sprecher abtrennen
+     *
+     * @param raw Getrimmte Zeile
+     * @return { Sprecher oder null, Rest der Zeile mit Befehlen }
+     */
+    public static String[] splitSpeaker(String raw) {
+        if (raw.startsWith("(")) {
+            int close = raw.indexOf(')');
+            if (close > 1) {
+                String rest = raw.substring(close + 1).trim();
+                if (rest.startsWith("\"")) {
+                    return new String[] { raw.substring(1, close).trim(), rest };
+                }
+            }
+        }
+        return new String[] { null, raw };
+    }
+
+    /**
+     * Befehle aus dem Text lösen
+     *
+     * @param speaker Bereits gepoolter Sprecher oder null
+     * @param body    Text mit {Befehlen}
+     * @return Zerlegte Zeile
+     */
+    public static DialogueLine withBody(String speaker, String body) {
+        if (body.indexOf('{') < 0) {
+            return new DialogueLine(speaker, body, List.of());
+        }
+
+        StringBuilder text = new StringBuilder(body.length());
+        List<Command> commands = new ArrayList<>(2);
+        int at = 0;
+        while (at < body.length()) {
+            int open = body.indexOf('{', at);
+            int close = open < 0 ? -1 : body.indexOf('}', open);
+            if (close < 0) {
+                text.append(body, at, body.length());
+                break;
+            }
+            text.append(body, at, open);
+            String command = body.substring(open + 1, close).trim();
+            int space = command.indexOf(' ');
+            String name = space < 0 ? command : command.substring(0, space);
+            String argument = space < 0 ? "" : command.substring(space + 1).trim();
+            commands.add(new Command(name, argument, text.length()));
+            at = close + 1;
+        }
+        return new DialogueLine(speaker, text.toString(), commands);
+    }
+
+    /** Text mit Sprecher für Backlog, Suche und Protokoll ("Liu Bei: ...") */
+    public String plainText() {
+        return speaker == null ? text : speaker + ": " + text;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.story;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-freie Warteschlange (viele Erzeuger, ein Verbraucher)
+ * --------------------------------------------------------
+ * Verkettete Liste mit Platzhalter-Knoten (nach Vyukov):
+ * - offer(): ein getAndSet auf das Ende, kein CAS-Wiederholen, kein Lock
+ * - poll(): nur der Verbraucher-Thread liest und verschiebt den Kopf
+ *
+ * Zwischen getAndSet und dem Verketten eines Erzeugers kann poll() kurz
+ * null liefern, obwohl ein Element unterwegs ist; der Verbraucher muss
+ * deshalb nach dem Aufwecken erneut pollen (siehe StoryActor).
+ *
+ * @param <T> Elementtyp
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+final class MpscQueue<T> {
+
+    private static final class Node<T> {
+        T value;
+        volatile Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    private final AtomicReference<Node<T>> tail;
+    private Node<T> head;   // Nur Verbraucher
+
+    MpscQueue() {
+        Node<T> stub = new Node<>(null);
+        head = stub;
+        tail = new AtomicReference<>(stub);
+    }
+
+    /** Element anhängen; von beliebigen Threads */
+    void offer(T value) {
+        Node<T> node = new Node<>(value);
+        Node<T> previous = tail.getAndSet(node);
+        previous.next = node;
+    }
+
+    /** Ältestes Element entnehmen oder null; nur vom Verbraucher-Thread */
+    T poll() {
+        Node<T> next = head.next;
+        if (next == null) return null;
+        T value = next.value;
+        next.value = null;
+        head = next;
+        return value;
+    }
+}
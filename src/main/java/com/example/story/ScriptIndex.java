@@ -0,0 +1,400 @@
+package com.example.story;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Volltext-Index über ein Skript
+ * -----------------------------
+ * Invertierter Index (Term -> Szene/Zeile/Position) für die Suche nach
+ * Zeilen, z.B. für Autoren und QA ("zu dieser Zeile springen") oder im
+ * Backlog.
+ *
+ * Kernfunktionen:
+ * - Tokenisierung mit Faltung: Kleinschreibung, Akzente und Umlaute
+ *   entfernt (schön -> schon, Zhuāng -> zhuang), ß -> ss
+ * - Sprecher und Text einer Zeile werden gemeinsam indiziert
+ * - CJK-Schriftzeichen (Han, Hiragana, Katakana) als Einzelzeichen-Terme;
+ *   eine Zeichenfolge wird als Phrase gesucht (曹操 findet genau 曹操)
+ * - Anfragen: Wörter (UND), Präfix (wort*), Phrase ("mehrere wörter")
+ * - Sortiertes Term-Verzeichnis: Präfixe per Binärsuche
+ *
+ * Der Index ist nach build() unveränderlich und aus allen Threads lesbar.
+ * Aufbau auf einem Hintergrund-Thread (siehe DialogueManager), da er
+ * alle Szenen einmal liest.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class ScriptIndex {
+
+    /** Obergrenze der Terme, auf die ein Präfix erweitert wird */
+    private static final int MAX_PREFIX_TERMS = 1024;
+
+    /**
+     * Treffer
+     * ------
+     * scene/index: Zeile im Skript (wie im Backlog)
+     * line: Die Zeile selbst
+     */
+    public record Hit(String scene, int index, DialogueLine line) {}
+
+    private final StoryScript script;
+    private final String[] sceneNames;
+    private final int[] sceneStart;
+    private final int lineCount;
+    private final String[] terms;
+    private final long[][] postings;
+
+    private ScriptIndex(StoryScript script, String[] sceneNames, int[] sceneStart, int lineCount,
+            String[] terms, long[][] postings) {
+        this.script = script;
+        this.sceneNames = sceneNames;
+        this.sceneStart = sceneStart;
+        this.lineCount = lineCount;
+        this.terms = terms;
+        this.postings = postings;
+    }
+
+    /**
+     * Index aufbauen
+     * -------------
+     * Zeilen werden global durchnummeriert (Szenen nach Namen sortiert);
+     * eine Posting ist (Zeile << 32 | Position), aufsteigend.
+     *
+     * @param script Skript (Text oder kompiliert)
+     * @return Fertiger Index
+     */
+    public static ScriptIndex build(StoryScript script) {
+        String[] sceneNames = script.scenes().toArray(String[]::new);
+        Arrays.sort(sceneNames);
+        int[] sceneStart = new int[sceneNames.length];
+        Map<String, Postings> index = new HashMap<>();
+
+        int line = 0;
+        for (int s = 0; s < sceneNames.length; s++) {
+            sceneStart[s] = line;
+            List<DialogueLine> lines = script.lines(sceneNames[s]);
+            if (lines == null) continue;
+            for (DialogueLine text : lines) {
+                List<String> tokens = tokenize(text.plainText());
+                for (int position = 0; position < tokens.size(); position++) {
+                    index.computeIfAbsent(tokens.get(position), term -> new Postings())
+                         .add((long) line << 32 | position);
+                }
+                line++;
+            }
+        }
+
+        TreeMap<String, Postings> sorted = new TreeMap<>(index);
+        String[] terms = sorted.keySet().toArray(String[]::new);
+        long[][] postings = new long[terms.length][];
+        int t = 0;
+        for (Postings list : sorted.values()) {
+            postings[t++] = list.toArray();
+        }
+        return new ScriptIndex(script, sceneNames, sceneStart, line, terms, postings);
+    }
+
+    /** Anzahl indizierter Zeilen */
+    public int lineCount() {
+        return lineCount;
+    }
+
+    /** Anzahl unterschiedlicher Terme */
+    public int termCount() {
+        return terms.length;
+    }
+
+    /** Skript, aus dem der Index gebaut wurde */
+    public StoryScript script() {
+        return script;
+    }
+
+    /**
+     * Suchen
+     *
+     * @param query Anfrage (siehe Query.parse)
+     * @param limit Höchstzahl Treffer
+     * @return Treffer in Skript-Reihenfolge (Szenen nach Namen)
+     */
+    public List<Hit> search(String query, int limit) {
+        return search(Query.parse(query), limit);
+    }
+
+    /**
+     * Suchen
+     * -----
+     * Jede Klausel liefert eine Zeilenmenge (BitSet über alle Zeilen),
+     * die Mengen werden geschnitten. Texte werden erst für die
+     * zurückgegebenen Treffer gelesen.
+     *
+     * @param query Geparste Anfrage
+     * @param limit Höchstzahl Treffer
+     * @return Treffer in Skript-Reihenfolge
+     */
+    public List<Hit> search(Query query, int limit) {
+        if (query.isEmpty() || limit <= 0) return List.of();
+
+        BitSet result = null;
+        for (Clause clause : query.clauses) {
+            BitSet lines = match(clause);
+            if (result == null) result = lines;
+            else result.and(lines);
+            if (result.isEmpty()) return List.of();
+        }
+
+        List<Hit> hits = new ArrayList<>(Math.min(limit, result.cardinality()));
+        Map<String, List<DialogueLine>> decoded = new HashMap<>();
+        for (int line = result.nextSetBit(0); line >= 0 && hits.size() < limit; line = result.nextSetBit(line + 1)) {
+            int scene = sceneOf(line);
+            String name = sceneNames[scene];
+            List<DialogueLine> lines = decoded.computeIfAbsent(name, script::lines);
+            int index = line - sceneStart[scene];
+            hits.add(new Hit(name, index, lines.get(index)));
+        }
+        return hits;
+    }
+
+    /** Zeilen, die eine Klausel erfüllen */
+    private BitSet match(Clause clause) {
+        BitSet lines = new BitSet(lineCount);
+        long[][][] candidates = new long[clause.terms.length][][];
+        for (int i = 0; i < clause.terms.length; i++) {
+            boolean prefix = clause.prefix && i == clause.terms.length - 1;
+            candidates[i] = prefix ? prefixPostings(clause.terms[i]) : exactPostings(clause.terms[i]);
+            if (candidates[i].length == 0) return lines;
+        }
+
+        // Phrasen vom seltensten Term aus prüfen, die anderen per Binärsuche
+        int anchor = 0;
+        for (int i = 1; i < candidates.length; i++) {
+            if (size(candidates[i]) < size(candidates[anchor])) anchor = i;
+        }
+        for (long[] list : candidates[anchor]) {
+            for (long posting : list) {
+                int line = (int) (posting >>> 32);
+                if (lines.get(line)) continue;
+                if (phraseAround(posting, anchor, candidates)) lines.set(line);
+            }
+        }
+        return lines;
+    }
+
+    private static long size(long[][] lists) {
+        long size = 0;
+        for (long[] list : lists) size += list.length;
+        return size;
+    }
+
+    /** true, wenn alle anderen Terme der Phrase passend um posting (Term anchor) liegen */
+    private static boolean phraseAround(long posting, int anchor, long[][][] candidates) {
+        if ((posting & 0xFFFF_FFFFL) < anchor) return false;
+        for (int i = 0; i < candidates.length; i++) {
+            if (i == anchor) continue;
+            long expected = posting + (i - anchor);
+            boolean found = false;
+            for (long[] list : candidates[i]) {
+                if (Arrays.binarySearch(list, expected) >= 0) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return false;
+        }
+        return true;
+    }
+
+    private long[][] exactPostings(String term) {
+        int t = Arrays.binarySearch(terms, term);
+        return t >= 0 ? new long[][] { postings[t] } : new long[0][];
+    }
+
+    /** Postings aller Terme mit dem Präfix (höchstens MAX_PREFIX_TERMS) */
+    private long[][] prefixPostings(String prefix) {
+        int from = Arrays.binarySearch(terms, prefix);
+        if (from < 0) from = -from - 1;
+        int to = from;
+        while (to < terms.length && to - from < MAX_PREFIX_TERMS && terms[to].startsWith(prefix)) {
+            to++;
+        }
+        return Arrays.copyOfRange(postings, from, to);
+    }
+
+    private int sceneOf(int line) {
+        int scene = Arrays.binarySearch(sceneStart, line);
+        if (scene < 0) return -scene - 2;
+        // Leere Szenen teilen sich den Beginn mit der nächsten: die letzte nehmen
+        while (scene + 1 < sceneStart.length && sceneStart[scene + 1] == line) scene++;
+        return scene;
+    }
+
+    /**
+     * Tokenisierung
+     * ------------
+     * Faltet den Text (NFKD ohne Akzente, Kleinschreibung, ß -> ss) und
+     * zerlegt ihn in Wörter aus Buchstaben und Ziffern. CJK-Zeichen
+     * werden einzeln ausgegeben.
+     *
+     * @param text Beliebiger Text
+     * @return Terme in Textreihenfolge
+     */
+    public static List<String> tokenize(String text) {
+        String folded = fold(text);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < folded.length(); ) {
+            int codePoint = folded.codePointAt(i);
+            int next = i + Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                if (start >= 0) tokens.add(folded.substring(start, i));
+                tokens.add(folded.substring(i, next));
+                start = -1;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+            i = next;
+        }
+        if (start >= 0) tokens.add(folded.substring(start));
+        return tokens;
+    }
+
+    private static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder out = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) continue;
+            out.append(c);
+        }
+        return out.toString().toLowerCase(Locale.ROOT).replace("ß", "ss");
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    /** Klausel: ein Term oder eine Phrase, optional mit Präfix am letzten Term */
+    private record Clause(String[] terms, boolean prefix) {
+
+        /** Linearer Vergleich gegen bereits tokenisierten Text */
+        boolean matches(List<String> tokens) {
+            for (int start = 0; start + terms.length <= tokens.size(); start++) {
+                boolean match = true;
+                for (int i = 0; i < terms.length && match; i++) {
+                    String token = tokens.get(start + i);
+                    boolean last = i == terms.length - 1;
+                    match = prefix && last ? token.startsWith(terms[i]) : token.equals(terms[i]);
+                }
+                if (match) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Suchanfrage
+     * ----------
+     * Syntax:
+     * - wort              Zeile enthält das Wort
+     * - wort*             Zeile enthält ein Wort mit diesem Anfang
+     * - "zwei wörter"     Wörter direkt hintereinander (auch "zwei wö*")
+     * - Mehrere Teile     müssen alle zutreffen
+     *
+     * Dieselbe Anfrage kann ohne Index gegen einzelne Texte geprüft
+     * werden (matches), z.B. für die wenigen Zeilen im Backlog.
+     */
+    public static final class Query {
+
+        private final List<Clause> clauses;
+
+        private Query(List<Clause> clauses) {
+            this.clauses = clauses;
+        }
+
+        /**
+         * Anfrage parsen
+         *
+         * @param query Eingabe des Benutzers
+         * @return Anfrage (leer, wenn sie keine Terme enthält)
+         */
+        public static Query parse(String query) {
+            List<Clause> clauses = new ArrayList<>();
+            String[] parts = query.split("\"", -1);
+            for (int p = 0; p < parts.length; p++) {
+                if (p % 2 == 1) {
+                    add(clauses, parts[p].trim());
+                    continue;
+                }
+                for (String word : parts[p].trim().split("\\s+")) {
+                    add(clauses, word);
+                }
+            }
+            return new Query(List.copyOf(clauses));
+        }
+
+        private static void add(List<Clause> clauses, String text) {
+            List<String> tokens = tokenize(text);
+            if (!tokens.isEmpty()) {
+                clauses.add(new Clause(tokens.toArray(String[]::new), text.endsWith("*")));
+            }
+        }
+
+        public boolean isEmpty() {
+            return clauses.isEmpty();
+        }
+
+        /**
+         * Zeile prüfen (Sprecher und Text wie im Index)
+         *
+         * @param line Zeile
+         * @return true, wenn alle Klauseln zutreffen
+         */
+        public boolean matches(DialogueLine line) {
+            return matches(line.plainText());
+        }
+
+        /**
+         * Text prüfen
+         *
+         * @param text Beliebiger Text
+         * @return true, wenn alle Klauseln zutreffen
+         */
+        public boolean matches(String text) {
+            if (clauses.isEmpty()) return false;
+            List<String> tokens = tokenize(text);
+            for (Clause clause : clauses) {
+                if (!clause.matches(tokens)) return false;
+            }
+            return true;
+        }
+    }
+
+    /** Wachsende Posting-Liste während des Aufbaus */
+    private static final class Postings {
+        private long[] data = new long[4];
+        private int size;
+
+        void add(long posting) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = posting;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
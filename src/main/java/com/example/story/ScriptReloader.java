@@ -0,0 +1,84 @@
+package com.example.story;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+
+/**
+ * Inkrementelles Neuladen des Skripts
+ * ----------------------------------
+ * Vergleicht eine neue Fassung von dialogue.txt blockweise mit der
+ * vorherigen und parst nur die [Szene]...[End]-Blöcke neu, deren Rohtext
+ * sich geändert hat. Unveränderte Szenen übernehmen ihre Zeilenliste.
+ *
+ * Das Ergebnis ist jeweils ein neues, unveränderliches StoryScript, das
+ * als Ganzes ausgetauscht werden kann.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class ScriptReloader {
+
+    private static final Logger LOG = Log.get(Category.DIALOGUE);
+
+    /** Rohtext und geparste Zeilen einer Szene */
+    private record Block(String raw, List<DialogueLine> lines) {}
+
+    /** Sprecher-Pool über alle Fassungen, damit gleiche Namen eine Instanz bleiben */
+    private final Map<String, String> speakers = new HashMap<>();
+
+    private Map<String, Block> blocks = Map.of();
+    private Set<String> changed = Set.of();
+
+    /** Leerer Reloader; die erste Fassung kommt mit reload() */
+    public ScriptReloader() {}
+
+    /**
+     * Neue Fassung übernehmen
+     * ----------------------
+     * @param text Kompletter Inhalt von dialogue.txt
+     * @return Skript mit neu geparsten geänderten und übernommenen unveränderten Szenen
+     */
+    public StoryScript reload(String text) {
+        Map<String, String> raw = StoryScript.splitBlocks(text);
+        Map<String, Block> next = new HashMap<>();
+        Set<String> touched = new HashSet<>();
+
+        for (Map.Entry<String, String> entry : raw.entrySet()) {
+            Block previous = blocks.get(entry.getKey());
+            if (previous != null && previous.raw().equals(entry.getValue())) {
+                next.put(entry.getKey(), previous);
+            } else {
+                next.put(entry.getKey(), new Block(entry.getValue(),
+                        StoryScript.parseBlock(entry.getValue(), speakers)));
+                touched.add(entry.getKey());
+            }
+        }
+        for (String scene : blocks.keySet()) {
+            if (!next.containsKey(scene)) touched.add(scene);
+        }
+
+        blocks = next;
+        changed = Set.copyOf(touched);
+        LOG.debug("Script reload: {} of {} scenes changed", touched.size(), next.size());
+
+        Map<String, List<DialogueLine>> scenes = new HashMap<>();
+        for (Map.Entry<String, Block> entry : next.entrySet()) {
+            if (!entry.getValue().lines().isEmpty()) {
+                scenes.put(entry.getKey(), entry.getValue().lines());
+            }
+        }
+        return new StoryScript.Parsed(Map.copyOf(scenes));
+    }
+
+    /** Szenen, die sich beim letzten reload() geändert haben (inkl. entfernter) */
+    public Set<String> changedScenes() {
+        return changed;
+    }
+}
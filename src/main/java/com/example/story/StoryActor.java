@@ -0,0 +1,102 @@
+package com.example.story;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+
+/**
+ * Story-Actor
+ * ----------
+ * Ein eigener Thread, dem der Story-Zustand gehört. Eingabe, Lader,
+ * Timer und Übergänge verändern ihn nicht direkt, sondern stellen
+ * Befehle in eine lock-freie Warteschlange (MpscQueue); der Actor führt
+ * sie nacheinander in Eingangsreihenfolge aus.
+ *
+ * Ablauf:
+ * - post(): Befehl anhängen und den Actor wecken (kein Lock, kein Warten)
+ * - ask(): Befehl mit Ergebnis, z.B. eine Kopie des Backlogs
+ * - Nach jedem Befehl läuft afterCommand (z.B. StoryState veröffentlichen)
+ * - Ohne Befehle parkt der Thread (LockSupport), kein aktives Warten
+ *
+ * Ein fehlschlagender Befehl wird protokolliert; der Actor läuft weiter.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class StoryActor {
+
+    private static final Logger LOG = Log.get(Category.DIALOGUE);
+
+    private final MpscQueue<Runnable> queue = new MpscQueue<>();
+    private final Runnable afterCommand;
+    private final Thread thread;
+
+    /**
+     * Actor starten
+     *
+     * @param name         Name des Threads
+     * @param afterCommand Läuft auf dem Actor-Thread nach jedem Befehl
+     */
+    public StoryActor(String name, Runnable afterCommand) {
+        this.afterCommand = afterCommand;
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Befehl einreihen
+     * ---------------
+     * Von beliebigen Threads; kehrt sofort zurück.
+     *
+     * @param command Läuft auf dem Actor-Thread
+     */
+    public void post(Runnable command) {
+        queue.offer(command);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Anfrage mit Ergebnis
+     *
+     * @param query Läuft auf dem Actor-Thread
+     * @return Future mit dem Ergebnis (bzw. der Ausnahme der Anfrage)
+     */
+    public <T> CompletableFuture<T> ask(Supplier<T> query) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        post(() -> {
+            try {
+                result.complete(query.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /** true auf dem Actor-Thread */
+    public boolean isActorThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    private void run() {
+        while (true) {
+            Runnable command = queue.poll();
+            if (command == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                command.run();
+            } catch (RuntimeException e) {
+                LOG.error("Story command failed", e);
+            } finally {
+                afterCommand.run();
+            }
+        }
+    }
+}
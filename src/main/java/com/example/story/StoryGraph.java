@@ -0,0 +1,218 @@
+package com.example.story;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Story-Graph
+ * ----------
+ * Datengetriebene Szenenabfolge, geladen aus story.graph.
+ *
+ * Kernfunktionen:
+ * - Knoten mit FXML-Id, Story-Markierung, Zurück-Ziel und Hintergrund
+ * - Kanten mit optionaler Flag-Bedingung
+ * - Vorberechnete Tabellen: Szenen-Id -> Knoten-Index in O(1)
+ * - Nachfolger-Abfrage für das Vorladen
+ *
+ * Dateiformat (siehe story.graph):
+ *   node <id> <fxml> [story] [back=<id>] [bg=<bild>]
+ *   edge <von> -> <nach> [if <flag> | if !<flag>]
+ *
+ * Der Graph ist nach dem Laden unveränderlich und damit ohne
+ * Synchronisation aus allen Threads lesbar.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class StoryGraph {
+
+    /**
+     * Knoten
+     * -----
+     * id: Szenen-Id (gleichzeitig Dialog-Block in dialogue.txt)
+     * fxml: Zu ladendes Layout (ohne .fxml Endung)
+     * story: true, wenn die Szene Dialog hat
+     * back: Ziel des Zurück-Buttons oder null
+     * background: Hintergrundbild relativ zu com/example oder null
+     */
+    public record Node(String id, String fxml, boolean story, String back, String background) {}
+
+    /** Kante mit vorab aufgelöstem Zielindex */
+    private record Edge(int target, String flag, boolean negated) {
+
+        boolean matches(Set<String> flags) {
+            return flag == null || flags.contains(flag) != negated;
+        }
+    }
+
+    private final Node[] nodes;
+    private final Edge[][] edges;
+    private final String[][] successors;
+    private final Map<String, Integer> index;
+
+    private StoryGraph(List<Node> nodes, Map<String, Integer> index, List<List<Edge>> edges) {
+        this.nodes = nodes.toArray(new Node[0]);
+        this.index = Collections.unmodifiableMap(index);
+        this.edges = new Edge[nodes.size()][];
+        this.successors = new String[nodes.size()][];
+        for (int i = 0; i < this.nodes.length; i++) {
+            this.edges[i] = edges.get(i).toArray(new Edge[0]);
+            this.successors[i] = edges.get(i).stream()
+                    .map(edge -> this.nodes[edge.target()].id())
+                    .distinct()
+                    .toArray(String[]::new);
+        }
+    }
+
+    /**
+     * Graph laden
+     * ----------
+     * Liest story.graph; Leerzeilen und #-Kommentare werden übersprungen.
+     *
+     * @param stream Inhalt der Graph-Datei (UTF-8)
+     * @return Unveränderlicher Graph
+     * @throws IOException Bei Lese- oder Syntaxfehlern
+     */
+    public static StoryGraph load(InputStream stream) throws IOException {
+        List<Node> nodes = new ArrayList<>();
+        Map<String, Integer> index = new HashMap<>();
+        List<String[]> edgeLines = new ArrayList<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] parts = line.split("\\s+");
+            switch (parts[0]) {
+                case "node" -> {
+                    if (parts.length < 3) throw syntax(lineNumber, "node <id> <fxml> expected");
+                    boolean story = false;
+                    String back = null;
+                    String background = null;
+                    for (int i = 3; i < parts.length; i++) {
+                        if (parts[i].equals("story")) story = true;
+                        else if (parts[i].startsWith("back=")) back = parts[i].substring(5);
+                        else if (parts[i].startsWith("bg=")) background = parts[i].substring(3);
+                        else throw syntax(lineNumber, "unknown attribute " + parts[i]);
+                    }
+                    if (index.putIfAbsent(parts[1], nodes.size()) != null) {
+                        throw syntax(lineNumber, "duplicate node " + parts[1]);
+                    }
+                    nodes.add(new Node(parts[1], parts[2], story, back, background));
+                }
+                case "edge" -> {
+                    // Nur genau "a -> b" oder "a -> b if <flag>", damit ein
+                    // Tippfehler keine ungeprüfte Verzweigung öffnet
+                    boolean conditional = parts.length == 6 && parts[4].equals("if")
+                            && !parts[5].equals("!");
+                    if ((parts.length != 4 && !conditional) || !parts[2].equals("->")) {
+                        throw syntax(lineNumber, "edge <from> -> <to> [if <flag>] expected");
+                    }
+                    edgeLines.add(new String[] {
+                            parts[1], parts[3], conditional ? parts[5] : null,
+                            String.valueOf(lineNumber) });
+                }
+                default -> throw syntax(lineNumber, "unknown entry " + parts[0]);
+            }
+        }
+
+        // Kanten erst nach allen Knoten auflösen (Vorwärtsreferenzen)
+        List<List<Edge>> edges = new ArrayList<>();
+        nodes.forEach(node -> edges.add(new ArrayList<>()));
+        for (String[] edge : edgeLines) {
+            int lineNo = Integer.parseInt(edge[3]);
+            Integer from = index.get(edge[0]);
+            Integer to = index.get(edge[1]);
+            if (from == null) throw syntax(lineNo, "unknown node " + edge[0]);
+            if (to == null) throw syntax(lineNo, "unknown node " + edge[1]);
+
+            String flag = edge[2];
+            boolean negated = flag != null && flag.startsWith("!");
+            edges.get(from).add(new Edge(to, negated ? flag.substring(1) : flag, negated));
+        }
+        for (Node node : nodes) {
+            if (node.back() != null && !index.containsKey(node.back())) {
+                throw new IOException("story.graph: unknown back target " + node.back() + " of " + node.id());
+            }
+        }
+
+        return new StoryGraph(nodes, index, edges);
+    }
+
+    private static IOException syntax(int line, String message) {
+        return new IOException("story.graph:" + line + ": " + message);
+    }
+
+    /** Knoten zur Szenen-Id oder null */
+    public Node node(String id) {
+        Integer i = id == null ? null : index.get(id);
+        return i == null ? null : nodes[i];
+    }
+
+    /** true, wenn die Szene Dialog hat */
+    public boolean isStoryScene(String id) {
+        Node node = node(id);
+        return node != null && node.story();
+    }
+
+    /** FXML-Name der Szene; unbekannte Ids werden als FXML-Name durchgereicht */
+    public String fxmlOf(String id) {
+        Node node = node(id);
+        return node == null ? id : node.fxml();
+    }
+
+    /** Zurück-Ziel der Szene oder null */
+    public String backOf(String id) {
+        Node node = node(id);
+        return node == null ? null : node.back();
+    }
+
+    /**
+     * Folgeszene
+     * ---------
+     * Erste ausgehende Kante, deren Bedingung durch die Flags erfüllt ist.
+     *
+     * @param id    Aktuelle Szene
+     * @param flags Gesetzte Story-Flags
+     * @return Id der Folgeszene oder null
+     */
+    public String next(String id, Set<String> flags) {
+        Integer i = id == null ? null : index.get(id);
+        if (i == null) return null;
+        for (Edge edge : edges[i]) {
+            if (edge.matches(flags)) return nodes[edge.target()].id();
+        }
+        return null;
+    }
+
+    /**
+     * Erreichbare Folgeszenen
+     * ----------------------
+     * Alle direkten Nachfolger unabhängig von Bedingungen (für das Vorladen).
+     *
+     * @param id Aktuelle Szene
+     * @return Ids der Nachfolger (unveränderlich)
+     */
+    public List<String> successors(String id) {
+        Integer i = id == null ? null : index.get(id);
+        return i == null ? List.of() : List.of(successors[i]);
+    }
+
+    /** Alle Knoten in Dateireihenfolge */
+    public List<Node> nodes() {
+        return List.of(nodes);
+    }
+}
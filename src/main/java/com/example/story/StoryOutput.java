@@ -0,0 +1,81 @@
+package com.example.story;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Ausgabe einer StorySession
+ * -------------------------
+ * Darstellungsunabhängige Schnittstelle zwischen Story-Logik und Anzeige.
+ * Die JavaFX-Anzeige (LabelOutput) ist nur eine Implementierung; ohne
+ * Oberfläche genügen z.B. Protokollierung oder Testprüfungen.
+ *
+ * Aufrufe kommen immer aus dem Thread, der die Session bedient; mit
+ * on() lassen sie sich an einen anderen Thread weiterreichen (im Spiel
+ * vom StoryActor an den FX-Thread).
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public interface StoryOutput {
+
+    /**
+     * Neue Zeile anzeigen
+     *
+     * @param scene Aktuelle Szene
+     * @param index Position der Zeile in der Szene (ab 0)
+     * @param line  Zerlegte Zeile (Sprecher, Text, Befehle)
+     */
+    void showLine(String scene, int index, DialogueLine line);
+
+    /**
+     * Szene zu Ende
+     * ------------
+     * Die Session bleibt in der alten Szene, bis enter() aufgerufen wird;
+     * so kann die Anzeige zuerst ihren Übergang abspielen.
+     *
+     * @param scene Beendete Szene
+     * @param next  Folgeszene nach story.graph oder null
+     */
+    void sceneFinished(String scene, String next);
+
+    /**
+     * Vorlade-Hinweis
+     * --------------
+     * Die Szene nähert sich ihrem Ende; diese Folgeszenen sind erreichbar.
+     *
+     * @param scenes Mögliche Folgeszenen
+     */
+    default void upcoming(List<String> scenes) {}
+
+    /**
+     * Ausgabe auf einem anderen Thread
+     * -------------------------------
+     * Reicht jeden Aufruf in Aufrufreihenfolge an den Executor weiter
+     * (z.B. Platform::runLater). Die Argumente sind unveränderlich und
+     * dürfen den Thread wechseln.
+     *
+     * @param executor Ziel-Thread
+     * @param target   Eigentliche Ausgabe
+     * @return Weiterreichende Ausgabe
+     */
+    static StoryOutput on(Executor executor, StoryOutput target) {
+        return new StoryOutput() {
+            @Override
+            public void showLine(String scene, int index, DialogueLine line) {
+                executor.execute(() -> target.showLine(scene, index, line));
+            }
+
+            @Override
+            public void sceneFinished(String scene, String next) {
+                executor.execute(() -> target.sceneFinished(scene, next));
+            }
+
+            @Override
+            public void upcoming(List<String> scenes) {
+                List<String> copy = List.copyOf(scenes);
+                executor.execute(() -> target.upcoming(copy));
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.story;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dialog-Skript
+ * ------------
+ * Unveränderliche Zeilen aller Szenen (bereits zerlegt in DialogueLine),
+ * gemeinsam genutzt von beliebig vielen StorySessions. Implementierungen müssen ohne Synchronisation
+ * aus allen Threads lesbar sein.
+ *
+ * Implementierungen:
+ * - parse(): Text-Skript im dialogue.txt-Format, vollständig im Speicher
+ * - CompiledDialogue: Binärformat, Szenen werden bei Bedarf dekodiert
+ * - ScriptReloader: Blockweises Neuparsen geänderter Szenen (Entwicklungsmodus)
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public interface StoryScript {
+
+    /**
+     * Zeilen einer Szene
+     *
+     * @param scene Name der Szene
+     * @return Unveränderliche Zeilen oder null, wenn die Szene unbekannt ist
+     */
+    List<DialogueLine> lines(String scene);
+
+    /** Namen aller Szenen im Skript */
+    Set<String> scenes();
+
+    /** Leeres Skript (noch nichts geladen) */
+    static StoryScript empty() {
+        return new Parsed(Map.of());
+    }
+
+    /**
+     * Text-Skript laden
+     * ----------------
+     * Verarbeitung:
+     * 1. Zerlegt den Text mit splitBlocks() in [SzenenName]...[End]-Blöcke
+     * 2. Überspringt Leerzeilen und //-Kommentare
+     * 3. Zerlegt jede Zeile einmalig in Sprecher, Text und Befehle
+     *
+     * Skripte sind immer UTF-8, unabhängig von der Plattform.
+     *
+     * @param stream Inhalt im dialogue.txt-Format
+     * @return Unveränderliches Skript
+     * @throws IOException Bei Stream-Problemen
+     */
+    static StoryScript parse(InputStream stream) throws IOException {
+        String text = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        Map<String, String> speakers = new HashMap<>();
+        Map<String, List<DialogueLine>> scenes = new HashMap<>();
+        for (Map.Entry<String, String> block : splitBlocks(text).entrySet()) {
+            List<DialogueLine> lines = parseBlock(block.getValue(), speakers);
+            if (!lines.isEmpty()) {
+                scenes.put(block.getKey(), lines);
+            }
+        }
+        return new Parsed(Map.copyOf(scenes));
+    }
+
+    /**
+     * Block-Zerlegung
+     * --------------
+     * Einzige Umsetzung der Blockgrammatik, genutzt von parse(),
+     * ScriptReloader und DialogueCompiler:
+     * - [SzenenName] beginnt einen Block (ein offener Block verfällt)
+     * - [End] schließt ihn ab; danach gehören Zeilen zu keiner Szene
+     * - Blöcke ohne [End] und Zeilen außerhalb von Blöcken verfallen
+     * - Kommt eine Szene mehrfach vor, gilt der letzte Block
+     *
+     * @param text Kompletter Inhalt im dialogue.txt-Format
+     * @return Rohtext pro Szene in Reihenfolge des ersten Auftretens
+     */
+    static Map<String, String> splitBlocks(String text) {
+        Map<String, String> raw = new LinkedHashMap<>();
+        String scene = null;
+        int start = 0;
+        int at = 0;
+        while (at < text.length()) {
+            int end = text.indexOf('\n', at);
+            if (end < 0) end = text.length();
+            String line = text.substring(at, end).trim();
+
+            if (line.startsWith("[") && line.endsWith("]")) {
+                if (line.equals("[End]")) {
+                    if (scene != null) raw.put(scene, text.substring(start, at));
+                    scene = null;
+                } else {
+                    scene = line.substring(1, line.length() - 1);
+                    start = end + 1;
+                }
+            }
+            at = end + 1;
+        }
+        return raw;
+    }
+
+    /**
+     * Zeilen eines Blocks
+     *
+     * @param raw Rohtext aus splitBlocks()
+     * @return Getrimmte Zeilen ohne Leerzeilen und //-Kommentare
+     */
+    static List<String> blockLines(String raw) {
+        List<String> lines = new ArrayList<>();
+        for (String line : raw.split("\\R")) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("//")) continue;
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    /**
+     * Block parsen
+     *
+     * @param raw      Rohtext aus splitBlocks()
+     * @param speakers Sprecher-Pool, damit gleiche Namen eine Instanz bleiben
+     * @return Unveränderliche Zeilen des Blocks
+     */
+    static List<DialogueLine> parseBlock(String raw, Map<String, String> speakers) {
+        List<DialogueLine> lines = new ArrayList<>();
+        for (String line : blockLines(raw)) {
+            lines.add(DialogueLine.parse(line, speakers));
+        }
+        return List.copyOf(lines);
+    }
+
+    /**
+     * Vollständig geparstes Text-Skript
+     * --------------------------------
+     * Ergebnis von parse() und ScriptReloader.
+     *
+     * @param sceneLines Unveränderliche Zeilen pro Szene
+     */
+    record Parsed(Map<String, List<DialogueLine>> sceneLines) implements StoryScript {
+
+        @Override
+        public List<DialogueLine> lines(String scene) {
+            return scene == null ? null : sceneLines.get(scene);
+        }
+
+        @Override
+        public Set<String> scenes() {
+            return sceneLines.keySet();
+        }
+    }
+}
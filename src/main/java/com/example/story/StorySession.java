@@ -0,0 +1,307 @@
+package com.example.story;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.log.Category;
+import com.example.log.Log;
+import com.example.log.Logger;
+
+/**
+ * Story-Session
+ * ------------
+ * Kopflose Story-Laufzeit: Spielstand einer einzelnen Sitzung über
+ * einem gemeinsamen, unveränderlichen Skript und Story-Graph.
+ *
+ * Zustand pro Session:
+ * - scene: Aktuelle Szene
+ * - index: Nächste anzuzeigende Zeile
+ * - flags: Gesetzte Story-Flags für bedingte Kanten
+ * - backlog: Zuletzt angezeigte Zeilen (Ringpuffer)
+ *
+ * Befehle {flag}/{unflag} einer Zeile wirken hier beim Anzeigen, damit
+ * auch kopflose Sessions (playThrough) denselben Weg durch den Graphen
+ * nehmen; alles Darstellungsbezogene (z.B. {wait}) bleibt der Ausgabe.
+ *
+ * Eine Session ist nicht thread-sicher und gehört immer genau einem
+ * Thread (im Spiel dem StoryActor, andere Threads lesen snapshot()). Skript und Graph werden dagegen
+ * geteilt; tausende Sessions pro JVM, etwa je ein virtueller Thread,
+ * kosten damit nur ihren kleinen Zustand:
+ *
+ *   try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+ *       for (int i = 0; i < 10_000; i++) {
+ *           executor.submit(() -> new StorySession(script, graph, output).playThrough("FirstScene", 10_000));
+ *       }
+ *   }
+ *
+ * Es wird weder JavaFX noch ein Toolkit benötigt.
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public final class StorySession {
+
+    private static final Logger LOG = Log.get(Category.DIALOGUE);
+
+    /**
+     * Vorlade-Abstand
+     * --------------
+     * Anzahl verbleibender Zeilen, ab der die Folgeszenen gemeldet werden.
+     */
+    private static final int PREFETCH_LOOKAHEAD = 3;
+
+    /** Ergebnis eines Schritts */
+    public enum Step {
+        /** Eine Zeile wurde angezeigt */
+        LINE,
+        /** Die Szene ist zu Ende, sceneFinished() wurde gemeldet */
+        SCENE_END,
+        /** Keine Szene aktiv oder die Szene hat keine Zeilen */
+        IDLE
+    }
+
+    private StoryScript script;
+    private final StoryGraph graph;
+    private final StoryOutput output;
+
+    private String scene;
+    private List<DialogueLine> lines;
+    private int index;
+    private DialogueLine shown;
+    private final Set<String> flags = new HashSet<>();
+    private final Backlog backlog = new Backlog(Backlog.DEFAULT_CAPACITY);
+
+    /**
+     * Neue Session
+     *
+     * @param script Gemeinsames Skript
+     * @param graph  Gemeinsamer Story-Graph (oder null ohne Szenenabfolge)
+     * @param output Ausgabe dieser Session
+     */
+    public StorySession(StoryScript script, StoryGraph graph, StoryOutput output) {
+        this.script = script;
+        this.graph = graph;
+        this.output = output;
+    }
+
+    /**
+     * Szene betreten
+     * -------------
+     * Setzt den Zeilenzähler zurück. Die erste Zeile erscheint mit dem
+     * nächsten advance().
+     *
+     * @param sceneId Name der Szene
+     * @return false, wenn das Skript die Szene nicht kennt
+     */
+    public boolean enter(String sceneId) {
+        LOG.debug("Changing scene from {} to {}", scene, sceneId);
+        scene = sceneId;
+        index = 0;
+        shown = null;
+        lines = script.lines(sceneId);
+        if (lines == null) {
+            LOG.warn("Scene marker [{}] not found in dialogue!", sceneId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Zustand übernehmen
+     * -----------------
+     * Für eine neue Session nach Wechsel von Skript oder Graph: Flags,
+     * Backlog, Szene und Position der alten Session gehen über. Es wird
+     * nichts angezeigt und kein Befehl erneut ausgeführt. Die Position
+     * wird auf die Szenenlänge im (evtl. neuen) Skript begrenzt.
+     *
+     * @param previous Bisherige Session (wird danach nicht mehr benutzt)
+     */
+    public void continueFrom(StorySession previous) {
+        flags.clear();
+        flags.addAll(previous.flags);
+        backlog.clear();
+        for (Backlog.Entry entry : previous.backlog.view()) {
+            backlog.add(entry.scene(), entry.index(), entry.line());
+        }
+        scene = previous.scene;
+        lines = scene == null ? null : script.lines(scene);
+        seek(previous.index);
+        shown = lines != null && index > 0 ? lines.get(index - 1) : null;
+    }
+
+    /**
+     * Skript austauschen
+     * -----------------
+     * Übernimmt eine neue Fassung des Skripts (z.B. beim Neuladen im
+     * Entwicklungsmodus). Szene, Position, Flags und Backlog bleiben
+     * erhalten; die Position wird auf die neue Szenenlänge begrenzt.
+     *
+     * @param replacement Neues Skript
+     */
+    public void replaceScript(StoryScript replacement) {
+        script = replacement;
+        if (scene == null) return;
+        lines = replacement.lines(scene);
+        seek(index);
+    }
+
+    /**
+     * Zeile anspringen
+     * ---------------
+     * Setzt die Position in der aktuellen Szene, z.B. beim Laden eines
+     * Spielstands. Das nächste advance() zeigt diese Zeile.
+     *
+     * @param lineIndex Zeile ab 0 (wird auf die Szene begrenzt)
+     */
+    public void seek(int lineIndex) {
+        int size = lines == null ? 0 : lines.size();
+        index = Math.max(0, Math.min(lineIndex, size));
+    }
+
+    /**
+     * Dialog-Progression
+     * ----------------
+     * Zeigt die nächste Zeile oder meldet das Szenenende.
+     *
+     * @return Art des Schritts
+     */
+    public Step advance() {
+        if (lines == null || lines.isEmpty()) {
+            if (scene != null) LOG.warn("No dialogue found for scene {}", scene);
+            return Step.IDLE;
+        }
+
+        if (index < lines.size()) {
+            DialogueLine line = lines.get(index);
+            applyCommands(line);
+            shown = line;
+            output.showLine(scene, index, line);
+            backlog.add(scene, index, line);
+            index++;
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("{} line {}/{}", scene, index, lines.size());
+            }
+
+            // Erreichbare Folgeszenen rechtzeitig melden
+            if (lines.size() - index <= PREFETCH_LOOKAHEAD && graph != null) {
+                output.upcoming(graph.successors(scene));
+            }
+            return Step.LINE;
+        }
+
+        String next = nextScene();
+        if (next == null) {
+            LOG.warn("No next scene defined for: {}", scene);
+        }
+        output.sceneFinished(scene, next);
+        return Step.SCENE_END;
+    }
+
+    /**
+     * Zeile erneut anzeigen
+     * --------------------
+     * Meldet die zuletzt angezeigte Zeile noch einmal an die Ausgabe,
+     * z.B. nach einem Skript- oder Sprachwechsel. Position, Flags und
+     * Backlog bleiben unverändert; Befehle der Zeile wirken nicht erneut.
+     *
+     * @return false, wenn noch keine Zeile angezeigt wurde
+     */
+    public boolean reshow() {
+        if (lines == null || index == 0 || index > lines.size()) return false;
+        shown = lines.get(index - 1);
+        output.showLine(scene, index - 1, shown);
+        return true;
+    }
+
+    /** Story-Befehle einer Zeile (Flags) */
+    private void applyCommands(DialogueLine line) {
+        for (DialogueLine.Command command : line.commands()) {
+            switch (command.name()) {
+                case "flag" -> setFlag(command.argument(), true);
+                case "unflag" -> setFlag(command.argument(), false);
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * Automatisches Durchspielen
+     * -------------------------
+     * Folgt ohne Übergänge allen Kanten, bis keine Story-Szene mehr
+     * erreichbar ist oder das Zeilenlimit greift (Zyklen im Graph).
+     *
+     * @param start    Erste Szene
+     * @param maxLines Obergrenze für angezeigte Zeilen
+     * @return Anzahl angezeigter Zeilen
+     */
+    public int playThrough(String start, int maxLines) {
+        int played = 0;
+        if (!enter(start)) return 0;
+        while (played < maxLines) {
+            Step step = advance();
+            if (step == Step.LINE) {
+                played++;
+            } else if (step == Step.IDLE) {
+                break;
+            } else {
+                String next = nextScene();
+                if (next == null || !graph.isStoryScene(next) || !enter(next)) break;
+            }
+        }
+        return played;
+    }
+
+    /** Folgeszene nach story.graph unter den aktuellen Flags oder null */
+    public String nextScene() {
+        return graph == null ? null : graph.next(scene, flags);
+    }
+
+    /** Setzt oder entfernt ein Story-Flag für bedingte Kanten */
+    public void setFlag(String flag, boolean value) {
+        if (value) flags.add(flag);
+        else flags.remove(flag);
+    }
+
+    public Set<String> getFlags() {
+        return Collections.unmodifiableSet(flags);
+    }
+
+    public String getScene() {
+        return scene;
+    }
+
+    /** Position der zuletzt angezeigten Zeile (0, solange noch keine gezeigt wurde) */
+    public int getShownIndex() {
+        return Math.max(0, index - 1);
+    }
+
+    /** Position der nächsten anzuzeigenden Zeile */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Schnappschuss
+     *
+     * @param revision Fortlaufende Nummer des Aufrufers
+     * @return Unveränderlicher Zustand für andere Threads
+     */
+    public StoryState snapshot(long revision) {
+        return new StoryState(scene, index, getShownIndex(), shown, Set.copyOf(flags), revision);
+    }
+
+    /** Zuletzt angezeigte Zeilen */
+    public Backlog getBacklog() {
+        return backlog;
+    }
+
+    public StoryScript getScript() {
+        return script;
+    }
+
+    public StoryGraph getGraph() {
+        return graph;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.story;
+
+import java.util.Set;
+
+/**
+ * Story-Zustand
+ * ------------
+ * Unveränderlicher Schnappschuss einer StorySession, den der StoryActor
+ * nach jedem Befehl veröffentlicht. Andere Threads (Anzeige, Speichern,
+ * Menü) lesen nur solche Schnappschüsse, nie die Session selbst.
+ *
+ * @param scene      Aktuelle Szene oder null
+ * @param index      Nächste anzuzeigende Zeile
+ * @param shownIndex Zuletzt angezeigte Zeile (0, solange noch keine gezeigt wurde)
+ * @param line       Zuletzt angezeigte Zeile oder null
+ * @param flags      Gesetzte Story-Flags (unveränderliche Kopie)
+ * @param revision   Fortlaufende Nummer, steigt mit jedem Befehl
+ *
+ * @author Type Soul Productions
+ * @version 1.0
+ */
+public record StoryState(String scene, int index, int shownIndex, DialogueLine line,
+                         Set<String> flags, long revision) {
+
+    /** Zustand vor dem ersten Befehl */
+    public static final StoryState EMPTY = new StoryState(null, 0, 0, null, Set.of(), 0);
+}
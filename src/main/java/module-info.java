@@ -1,7 +1,12 @@
 module com.example {
     requires transitive javafx.controls;
     requires javafx.fxml;
+    requires static java.desktop; // nur AssetPacker (Build-Zeit)
+    requires java.management;
+    requires jdk.httpserver;
 
     opens com.example to javafx.fxml;
     exports com.example;
+    exports com.example.story;
+    exports com.example.metrics;
 }